@@ -6,6 +6,7 @@ import com.sampoom.backend.api.bom.dto.BomResponseDTO;
 import com.sampoom.backend.api.bom.entity.BomComplexity;
 import com.sampoom.backend.api.bom.entity.BomStatus;
 import com.sampoom.backend.api.bom.service.BomService;
+import com.sampoom.backend.common.dto.CursorResponseDTO;
 import com.sampoom.backend.common.dto.PageResponseDTO;
 import com.sampoom.backend.common.response.ApiResponse;
 import com.sampoom.backend.common.response.SuccessStatus;
@@ -81,6 +82,21 @@ public class BomController {
         return ApiResponse.success(SuccessStatus.OK,
                 bomService.searchBoms(keyword, categoryId, groupId, status, complexity, page, size));
     }
+
+    @Operation(summary = "BOM 검색 (커서 페이지)", description = "BOM 코드순으로 커서 기반 페이지 조회합니다. 응답의 nextCursor를 cursor로 넘기면 다음 페이지를 조회합니다.")
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorResponseDTO<BomResponseDTO>>> scrollBoms(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long groupId,
+            @RequestParam(required = false) BomStatus status,
+            @RequestParam(required = false) BomComplexity complexity,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeCount) {
+        return ApiResponse.success(SuccessStatus.OK,
+                bomService.scrollBoms(keyword, categoryId, groupId, status, complexity, cursor, size, includeCount));
+    }
 //
 //    @Operation(summary = "모든 BOM totalCost 재계산", description = "quantity가 Double로 변경된 후 모든 BOM의 totalCost를 재계산합니다.")
 //    @PostMapping("/recalculate-all-costs")
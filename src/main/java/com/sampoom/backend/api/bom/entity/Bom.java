@@ -92,9 +92,4 @@ public class Bom extends BaseTimeEntity {
         this.status = newStatus;
         touchNow();
     }
-
-    // 코드 생성
-    public void generateBomCode(Long id) {
-        this.bomCode = String.format("BOM-%03d", id);
-    }
 }
@@ -5,7 +5,9 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "bom_material")
+@Table(name = "bom_material", indexes = {
+        @Index(name = "idx_bom_material_material_id", columnList = "material_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -1,70 +1,94 @@
 package com.sampoom.backend.api.bom.event.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sampoom.backend.api.bom.entity.Bom;
 import com.sampoom.backend.api.bom.event.dto.BomEvent;
+import com.sampoom.backend.common.outbox.dto.OutboxChunkResult;
 import com.sampoom.backend.common.outbox.entity.Outbox;
-import com.sampoom.backend.common.outbox.repository.OutboxRepository;
-import com.sampoom.backend.common.outbox.entity.OutboxStatus;
+import com.sampoom.backend.common.outbox.service.OutboxRepublisher;
+import com.sampoom.backend.common.outbox.service.OutboxService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BomEventBatchService {
 
-    private final OutboxRepository outboxRepository;
-    private final ObjectMapper objectMapper;
+    private final OutboxService outboxService;
+    private final OutboxRepublisher outboxRepublisher;
+    private final TransactionTemplate transactionTemplate;
     private final com.sampoom.backend.api.bom.repository.BomRepository bomRepository;
 
-    @Transactional
-    public void publishAllBomEvents() {
-        List<Bom> boms = bomRepository.findAllWithMaterials();
-        for (Bom bom : boms) {
-            try {
-                // 자재 정보 리스트 구성
-                List<BomEvent.Payload.MaterialInfo> materials = bom.getMaterials().stream()
-                        .map(m -> BomEvent.Payload.MaterialInfo.builder()
-                                .materialId(m.getMaterial().getId())
-                                .materialName(m.getMaterial().getName())
-                                .materialCode(m.getMaterial().getMaterialCode())
-                                .unit(m.getMaterial().getMaterialUnit())
-                                .quantity(m.getQuantity())
-                                .build())
-                        .toList();
+    // 한 청크(트랜잭션)에서 처리할 BOM 수
+    @Value("${outbox.republish.chunk-size:500}")
+    private int chunkSize;
 
-                // Payload 생성
-                BomEvent.Payload payload = BomEvent.Payload.builder()
-                        .bomId(bom.getId())
-                        .partId(bom.getPart().getId())
-                        .partCode(bom.getPart().getCode())
-                        .partName(bom.getPart().getName())
-                        .status(bom.getStatus().name())
-                        .complexity(bom.getComplexity().name())
-                        .deleted(false)
-                        .totalCost(bom.getTotalCost() != null ? bom.getTotalCost().doubleValue() : 0.0)
-                        .materials(materials)
-                        .build();
+    /**
+     * ✅ 모든 BOM 이벤트 Outbox 등록 (id 키셋 청크 단위)
+     */
+    public long publishAllBomEvents() {
+        return outboxRepublisher.publishAll("BOM", bomRepository.count(), chunkSize, this::publishBomChunk);
+    }
+
+    /**
+     * lastId 이후 BOM을 최대 size개 읽어 Outbox로 등록 (청크 단위 트랜잭션)
+     * - 1단계: BOM id만 키셋으로 조회 (컬렉션 fetch join과 페이징을 함께 쓰면 메모리에서 페이징되므로 분리)
+     * - 2단계: 해당 id의 BOM, Part, 자재를 한 쿼리로 로딩
+     * → 청크당 쿼리 2번 + batch insert
+     */
+    public OutboxChunkResult publishBomChunk(Long lastId, int size) {
+        return transactionTemplate.execute(status -> {
+            List<Long> ids = bomRepository.findIdsAfter(lastId, PageRequest.of(0, size));
+            if (ids.isEmpty()) {
+                return OutboxChunkResult.empty(lastId);
+            }
 
-                // Outbox 생성
-                Outbox outbox = Outbox.builder()
-                        .aggregateType("BOM")
-                        .aggregateId(bom.getId())
-                        .eventType("BomCreated")
-                        .payload(objectMapper.writeValueAsString(payload))
-                        .version(bom.getVersion())
-                        .occurredAt(OffsetDateTime.now())
-                        .status(OutboxStatus.READY)
-                        .build();
+            List<Bom> boms = bomRepository.findAllWithPartAndMaterialsByIdIn(ids);
 
-                outboxRepository.save(outbox);
-            } catch (Exception e) {
-                e.printStackTrace(); // 혹은 log.error("BOM 이벤트 생성 실패", e);
+            List<Outbox> outboxes = new ArrayList<>(boms.size());
+            for (Bom bom : boms) {
+                try {
+                    outboxes.add(outboxService.newOutbox(
+                            "BOM", bom.getId(), "BomCreated", bom.getVersion(), toPayload(bom)));
+                } catch (Exception e) {
+                    log.error("❌ BOM 이벤트 생성 실패 (id={}): {}", bom.getId(), e.getMessage());
+                }
             }
-        }
+
+            return outboxRepublisher.saveChunk(outboxes, ids.size(), ids.get(ids.size() - 1));
+        });
+    }
+
+    private BomEvent.Payload toPayload(Bom bom) {
+        // 자재 정보 리스트 구성
+        List<BomEvent.Payload.MaterialInfo> materials = bom.getMaterials().stream()
+                .map(m -> BomEvent.Payload.MaterialInfo.builder()
+                        .materialId(m.getMaterial().getId())
+                        .materialName(m.getMaterial().getName())
+                        .materialCode(m.getMaterial().getMaterialCode())
+                        .unit(m.getMaterial().getMaterialUnit())
+                        .quantity(m.getQuantity())
+                        .build())
+                .toList();
+
+        // Payload 생성
+        return BomEvent.Payload.builder()
+                .bomId(bom.getId())
+                .partId(bom.getPart().getId())
+                .partCode(bom.getPart().getCode())
+                .partName(bom.getPart().getName())
+                .status(bom.getStatus().name())
+                .complexity(bom.getComplexity().name())
+                .deleted(false)
+                .totalCost(bom.getTotalCost() != null ? bom.getTotalCost().doubleValue() : 0.0)
+                .materials(materials)
+                .build();
     }
 }
@@ -0,0 +1,80 @@
+package com.sampoom.backend.api.bom.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * BOM 총비용 집합 기반 재계산 (JDBC)
+ * - BOM/자재 엔티티를 로딩하지 않고 bom_material × material_master 합계를 SQL로 계산
+ * - Bom.calculateTotalCost와 같은 규칙: 자재별 금액(단가 × 수량)은 소수점 버림, 단가/수량이 없으면 0
+ * - bom_id 범위 단위로 나눠 실행하므로 한 번에 잠그는 행 수가 제한됨
+ * - 다른 BOM을 찾고(FOR UPDATE로 잠금) 찾은 id만 갱신 → 조회와 갱신 사이에 바뀐 BOM이 이벤트 없이 갱신되지 않음
+ * - 벌크 UPDATE는 @Version을 거치지 않으므로 version/updated_at을 직접 올림
+ */
+@Repository
+@RequiredArgsConstructor
+public class BomCostJdbcRepository {
+
+    private static final String COMPUTED_TOTAL_COST = """
+            COALESCE((SELECT SUM(CAST(TRUNC(m.standard_cost * bm.quantity) AS BIGINT))
+                      FROM bom_material bm
+                      JOIN material_master m ON m.id = bm.material_id
+                      WHERE bm.bom_id = b.bom_id), 0)
+            """;
+
+    private static final String FIND_CHUNK_UPPER_ID_SQL = """
+            SELECT MAX(t.bom_id) FROM (
+                SELECT bom_id FROM bom WHERE bom_id > ? ORDER BY bom_id LIMIT ?
+            ) t
+            """;
+
+    private static final String FIND_STALE_IDS_SQL =
+            "SELECT b.bom_id FROM bom b " +
+            "WHERE b.bom_id > ? AND b.bom_id <= ? " +
+            "AND b.total_cost <> " + COMPUTED_TOTAL_COST +
+            "ORDER BY b.bom_id FOR UPDATE";
+
+    private static final String UPDATE_TOTAL_COST_SQL =
+            "UPDATE bom b SET total_cost = " + COMPUTED_TOTAL_COST + ", " +
+            "version = version + 1, updated_at = ? " +
+            "WHERE b.bom_id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * afterId 이후 size개 BOM 중 마지막 bom_id (없으면 null)
+     */
+    public Long findChunkUpperId(Long afterId, int size) {
+        return jdbcTemplate.queryForObject(FIND_CHUNK_UPPER_ID_SQL, Long.class, afterId, size);
+    }
+
+    /**
+     * (fromId, toId] 범위에서 저장된 총비용이 계산값과 다른 BOM id (트랜잭션 끝까지 행 잠금)
+     */
+    public List<Long> findStaleTotalCostIds(Long fromId, Long toId) {
+        return jdbcTemplate.queryForList(FIND_STALE_IDS_SQL, Long.class, fromId, toId);
+    }
+
+    /**
+     * findStaleTotalCostIds로 찾은 BOM만 총비용 갱신
+     */
+    public int updateTotalCosts(List<Long> bomIds) {
+        if (bomIds.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(bomIds.size(), "?"));
+
+        List<Object> params = new ArrayList<>(bomIds.size() + 1);
+        params.add(Timestamp.valueOf(LocalDateTime.now()));
+        params.addAll(bomIds);
+
+        return jdbcTemplate.update(UPDATE_TOTAL_COST_SQL.formatted(placeholders), params.toArray());
+    }
+}
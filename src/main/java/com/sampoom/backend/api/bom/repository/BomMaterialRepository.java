@@ -2,6 +2,15 @@ package com.sampoom.backend.api.bom.repository;
 
 import com.sampoom.backend.api.bom.entity.BomMaterial;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface BomMaterialRepository extends JpaRepository<BomMaterial,Long> {
+
+    // 자재를 사용하는 BOM id (idx_bom_material_material_id 사용)
+    @Query("SELECT DISTINCT bm.bom.id FROM BomMaterial bm WHERE bm.material.id IN :materialIds")
+    List<Long> findBomIdsByMaterialIdIn(@Param("materialIds") Collection<Long> materialIds);
 }
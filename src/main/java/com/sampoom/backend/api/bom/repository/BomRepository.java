@@ -3,12 +3,14 @@ package com.sampoom.backend.api.bom.repository;
 import com.sampoom.backend.api.bom.entity.Bom;
 import com.sampoom.backend.api.bom.entity.BomComplexity;
 import com.sampoom.backend.api.bom.entity.BomStatus;
+import com.sampoom.backend.api.part.dto.PartCostProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,9 +23,9 @@ JOIN p.partGroup g
 JOIN g.category c
 WHERE (
   COALESCE(:keyword, '') = ''
-  OR p.name ILIKE CONCAT('%', :keyword, '%')
-  OR p.code ILIKE CONCAT('%', :keyword, '%')
-  OR b.bomCode ILIKE CONCAT('%', :keyword, '%')
+  OR LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%'))
+  OR LOWER(p.code) LIKE LOWER(CONCAT('%', :keyword, '%'))
+  OR LOWER(b.bomCode) LIKE LOWER(CONCAT('%', :keyword, '%'))
 )
 AND (:categoryId IS NULL OR c.id = :categoryId)
 AND (:groupId    IS NULL OR g.id = :groupId)
@@ -39,11 +41,84 @@ ORDER BY b.bomCode ASC
             @Param("complexity") BomComplexity complexity,
             Pageable pageable);
 
+    // 커서 기반 검색: (bomCode, id) 키셋 다음 행부터 조회 (COUNT/OFFSET 없음)
+    @Query("""
+SELECT b FROM Bom b
+JOIN FETCH b.part p
+JOIN p.partGroup g
+JOIN g.category c
+WHERE (
+  COALESCE(:keyword, '') = ''
+  OR LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%'))
+  OR LOWER(p.code) LIKE LOWER(CONCAT('%', :keyword, '%'))
+  OR LOWER(b.bomCode) LIKE LOWER(CONCAT('%', :keyword, '%'))
+)
+AND (:categoryId IS NULL OR c.id = :categoryId)
+AND (:groupId    IS NULL OR g.id = :groupId)
+AND (:status IS NULL OR b.status = :status)
+AND (:complexity IS NULL OR b.complexity = :complexity)
+AND (
+  COALESCE(:cursorCode, '') = ''
+  OR b.bomCode > :cursorCode
+  OR (b.bomCode = :cursorCode AND b.id > :cursorId)
+)
+ORDER BY b.bomCode ASC, b.id ASC
+""")
+    List<Bom> scrollByFilters(
+            @Param("keyword") String keyword,
+            @Param("categoryId") Long categoryId,
+            @Param("groupId") Long groupId,
+            @Param("status") BomStatus status,
+            @Param("complexity") BomComplexity complexity,
+            @Param("cursorCode") String cursorCode,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    @Query("""
+SELECT COUNT(b) FROM Bom b
+JOIN b.part p
+JOIN p.partGroup g
+JOIN g.category c
+WHERE (
+  COALESCE(:keyword, '') = ''
+  OR LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%'))
+  OR LOWER(p.code) LIKE LOWER(CONCAT('%', :keyword, '%'))
+  OR LOWER(b.bomCode) LIKE LOWER(CONCAT('%', :keyword, '%'))
+)
+AND (:categoryId IS NULL OR c.id = :categoryId)
+AND (:groupId    IS NULL OR g.id = :groupId)
+AND (:status IS NULL OR b.status = :status)
+AND (:complexity IS NULL OR b.complexity = :complexity)
+""")
+    long countByFilters(
+            @Param("keyword") String keyword,
+            @Param("categoryId") Long categoryId,
+            @Param("groupId") Long groupId,
+            @Param("status") BomStatus status,
+            @Param("complexity") BomComplexity complexity);
+
     Optional<Bom> findByPart_Id(Long partId);
 
-    @Query("SELECT DISTINCT b FROM Bom b LEFT JOIN FETCH b.materials m LEFT JOIN FETCH m.material")
-    List<Bom> findAllWithMaterials();
+    // 접두어가 같은 BOM 코드 (코드 카운터 초기화용)
+    @Query("SELECT b.bomCode FROM Bom b WHERE b.bomCode LIKE CONCAT(:prefix, '%')")
+    List<String> findCodesByPrefix(@Param("prefix") String prefix);
+
+    // Part별 BOM 총비용 (엔티티 로딩 없이 Part 표준 비용 재계산에 사용)
+    @Query("SELECT b.part.id AS partId, b.totalCost AS cost FROM Bom b WHERE b.part.id IN :partIds")
+    List<PartCostProjection> findTotalCostsByPartIdIn(@Param("partIds") Collection<Long> partIds);
 
     boolean existsByPart_Id(Long partId);
 
+    // 전체 재발행 1단계: id 기준 키셋 페이징으로 BOM id만 조회
+    @Query("SELECT b.id FROM Bom b WHERE b.id > :lastId ORDER BY b.id ASC")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 전체 재발행 2단계: id 페이지의 BOM + Part + 자재를 한 번에 로딩 (N+1 방지)
+    @Query("SELECT DISTINCT b FROM Bom b " +
+            "LEFT JOIN FETCH b.part p " +
+            "LEFT JOIN FETCH b.materials m " +
+            "LEFT JOIN FETCH m.material " +
+            "WHERE b.id IN :ids ORDER BY b.id ASC")
+    List<Bom> findAllWithPartAndMaterialsByIdIn(@Param("ids") List<Long> ids);
+
 }
\ No newline at end of file
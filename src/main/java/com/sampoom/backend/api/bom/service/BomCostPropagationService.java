@@ -0,0 +1,92 @@
+package com.sampoom.backend.api.bom.service;
+
+import com.sampoom.backend.api.bom.entity.Bom;
+import com.sampoom.backend.api.bom.repository.BomMaterialRepository;
+import com.sampoom.backend.api.bom.repository.BomRepository;
+import com.sampoom.backend.api.part.service.PartService;
+import com.sampoom.backend.common.outbox.dto.OutboxEventRequest;
+import com.sampoom.backend.common.outbox.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 자재 단가 변경을 BOM → Part 표준 비용으로 전파
+ * - 변경된 자재를 쓰는 BOM만 찾아 다시 계산 (idx_bom_material_material_id)
+ * - 총비용이 실제로 바뀐 BOM의 Part만 표준 비용을 다시 계산
+ * - 바뀐 BOM/Part의 이벤트를 모아 saveEvents로 한 번에 저장
+ * → 전체 BOM을 다시 계산하지 않으므로 작업량이 변경 범위에 비례
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BomCostPropagationService {
+
+    // IN 절 한 번에 넣을 BOM id 수
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    private final BomRepository bomRepository;
+    private final BomMaterialRepository bomMaterialRepository;
+    private final BomService bomService;
+    private final PartService partService;
+    private final OutboxService outboxService;
+
+    /**
+     * 자재 단가 변경 전파 (호출한 트랜잭션에 참여)
+     */
+    @Transactional
+    public void propagateMaterialCostChange(Collection<Long> materialIds) {
+        if (materialIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> bomIds = bomMaterialRepository.findBomIdsByMaterialIdIn(materialIds);
+        if (bomIds.isEmpty()) {
+            return;
+        }
+
+        // 영향받는 BOM을 나눠서 로딩하고 총비용이 바뀐 BOM만 남김
+        List<Bom> changedBoms = new ArrayList<>();
+        for (int from = 0; from < bomIds.size(); from += LOAD_BATCH_SIZE) {
+            List<Long> ids = bomIds.subList(from, Math.min(from + LOAD_BATCH_SIZE, bomIds.size()));
+            for (Bom bom : bomRepository.findAllWithPartAndMaterialsByIdIn(ids)) {
+                Long before = bom.getTotalCost();
+                bom.calculateTotalCost();
+                if (!Objects.equals(before, bom.getTotalCost())) {
+                    changedBoms.add(bom);
+                }
+            }
+        }
+
+        if (changedBoms.isEmpty()) {
+            log.debug("자재 단가 변경 전파: 영향 BOM={}건, 비용 변경 없음", bomIds.size());
+            return;
+        }
+
+        // DB에 변경사항 반영 (@Version 증가 후 이벤트 생성)
+        bomRepository.flush();
+
+        List<OutboxEventRequest> events = new ArrayList<>();
+        Set<Long> partIds = new LinkedHashSet<>();
+        for (Bom bom : changedBoms) {
+            events.add(bomService.toBomUpdatedEvent(bom));
+            partIds.add(bom.getPart().getId());
+        }
+
+        List<OutboxEventRequest> partEvents = partService.recalculateStandardCosts(partIds);
+        events.addAll(partEvents);
+
+        outboxService.saveEvents(events);
+
+        log.info("자재 단가 변경 전파 완료: 자재={}건, 영향 BOM={}건, 변경 BOM={}건, 변경 Part={}건",
+                materialIds.size(), bomIds.size(), changedBoms.size(), partEvents.size());
+    }
+}
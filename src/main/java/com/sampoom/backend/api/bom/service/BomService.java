@@ -8,29 +8,38 @@ import com.sampoom.backend.api.bom.entity.BomComplexity;
 import com.sampoom.backend.api.bom.entity.BomMaterial;
 import com.sampoom.backend.api.bom.entity.BomStatus;
 import com.sampoom.backend.api.bom.event.dto.BomEvent;
+import com.sampoom.backend.api.bom.repository.BomCostJdbcRepository;
 import com.sampoom.backend.api.bom.repository.BomRepository;
 import com.sampoom.backend.api.material.entity.Material;
 import com.sampoom.backend.api.material.repository.MaterialRepository;
 import com.sampoom.backend.api.part.entity.Part;
+import com.sampoom.backend.common.outbox.dto.OutboxEventRequest;
 import com.sampoom.backend.common.outbox.service.OutboxService;
 import com.sampoom.backend.api.part.repository.PartRepository;
+import com.sampoom.backend.api.part.service.PartRecomputeScheduler;
 import com.sampoom.backend.api.part.service.PartService;
+import com.sampoom.backend.common.dto.CursorResponseDTO;
+import com.sampoom.backend.common.dto.CursorToken;
 import com.sampoom.backend.common.dto.PageResponseDTO;
 import com.sampoom.backend.common.exception.BadRequestException;
 import com.sampoom.backend.common.exception.NotFoundException;
 import com.sampoom.backend.common.response.ErrorStatus;
+import com.sampoom.backend.common.sequence.service.CodeAllocator;
+import com.sampoom.backend.common.sequence.service.CodeSpec;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.OffsetDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BomService {
@@ -39,6 +48,16 @@ public class BomService {
     private final MaterialRepository materialRepository;
     private final OutboxService outboxService;
     private final PartService partService;
+    private final PartRecomputeScheduler partRecomputeScheduler;
+    private final BomCostJdbcRepository bomCostJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CodeAllocator codeAllocator;
+
+    // BOM 코드 형식 (BOM-001 형태)
+    private static final CodeSpec BOM_CODE = CodeSpec.of("BOM", "BOM-", 3);
+
+    // 전체 재계산 시 한 트랜잭션에서 처리할 BOM 수
+    private static final int RECALCULATE_CHUNK_SIZE = 1000;
 
 
     // BOM 생성
@@ -101,6 +120,7 @@ public class BomService {
                                 : BomStatus.PENDING_APPROVAL
                 )
                 .complexity(BomComplexity.SIMPLE)
+                .bomCode(codeAllocator.next(BOM_CODE, bomRepository::findCodesByPrefix))
                 .build();
 
         // 5️⃣ 자재 매핑
@@ -121,15 +141,8 @@ public class BomService {
         // 수정일 갱신 후 저장
         bom.touchNow();
 
-        Bom saved =  bomRepository.saveAndFlush(bom);
-        saved.generateBomCode(saved.getId());
-        bomRepository.save(saved);
-
-        // 코드 생성 (id 기반)
-        if (saved.getBomCode() == null) {
-            saved.generateBomCode(saved.getId());
-            bomRepository.save(saved); // 다시 저장해서 DB 반영
-        }
+        // 코드를 미리 발급했으므로 INSERT 한 번으로 저장
+        Bom saved = bomRepository.saveAndFlush(bom);
 
         // 부품 원가 갱신
 //        part.updateStandardCost(bom.getTotalCost());
@@ -138,8 +151,8 @@ public class BomService {
         // 8️⃣ 이벤트 발행
         publishBomEvent(saved, "BomCreated");
 
-        // Part 표준 비용 업데이트 (BOM 비용 + Process 비용)
-        partService.updateStandardCostFromBomAndProcess(saved.getPart().getId());
+        // Part 표준 비용 재계산 예약 (BOM 비용 + Process 비용, 커밋 직전 실행)
+        partRecomputeScheduler.scheduleStandardCost(saved.getPart().getId());
 
         return BomResponseDTO.from(saved);
     }
@@ -213,8 +226,8 @@ public class BomService {
 
         publishBomEvent(saved, "BomUpdated");
 
-        // Part 표준 비용 업데이트 (BOM 비용 + Process 비용)
-        partService.updateStandardCostFromBomAndProcess(saved.getPart().getId());
+        // Part 표준 비용 재계산 예약 (BOM 비용 + Process 비용, 커밋 직전 실행)
+        partRecomputeScheduler.scheduleStandardCost(saved.getPart().getId());
 
         return BomResponseDTO.from(saved);
     }
@@ -231,8 +244,8 @@ public class BomService {
 
         publishBomDeletedEvent(bom);
 
-        // Part 표준 비용 업데이트 (BOM 삭제로 인한 비용 재계산)
-        partService.updateStandardCostFromBomAndProcess(partId);
+        // Part 표준 비용 재계산 예약 (BOM 삭제로 인한 비용 재계산)
+        partRecomputeScheduler.scheduleStandardCost(partId);
     }
 
 
@@ -240,7 +253,28 @@ public class BomService {
      * Outbox 이벤트 발행 메서드
      * ---------------------------- */
     private void publishBomEvent(Bom bom, String eventType) {
-        BomEvent.Payload payload = BomEvent.Payload.builder()
+        outboxService.saveEvent(
+                "BOM",
+                bom.getId(),
+                eventType,
+                bom.getVersion(),
+                buildBomPayload(bom)
+        );
+    }
+
+    // BomUpdated 이벤트 요청 생성 (여러 건을 saveEvents로 한 번에 저장할 때 사용)
+    public OutboxEventRequest toBomUpdatedEvent(Bom bom) {
+        return OutboxEventRequest.builder()
+                .aggregateType("BOM")
+                .aggregateId(bom.getId())
+                .eventType("BomUpdated")
+                .version(bom.getVersion())
+                .payload(buildBomPayload(bom))
+                .build();
+    }
+
+    private BomEvent.Payload buildBomPayload(Bom bom) {
+        return BomEvent.Payload.builder()
                 .bomId(bom.getId())
                 .partId(bom.getPart().getId())
                 .partCode(bom.getPart().getCode())
@@ -259,22 +293,6 @@ public class BomService {
                                 .build())
                         .toList())
                 .build();
-
-        BomEvent event = BomEvent.builder()
-                .eventId(UUID.randomUUID().toString())
-                .eventType(eventType)
-                .version(bom.getVersion())
-                .occurredAt(OffsetDateTime.now().toString())
-                .payload(payload)
-                .build();
-
-        outboxService.saveEvent(
-                "BOM",
-                bom.getId(),
-                eventType,
-                bom.getVersion(),
-                event.getPayload()
-        );
     }
 
     private void publishBomDeletedEvent(Bom bom) {
@@ -290,20 +308,12 @@ public class BomService {
                 .materials(Collections.emptyList())
                 .build();
 
-        BomEvent event = BomEvent.builder()
-                .eventId(UUID.randomUUID().toString())
-                .eventType("BomDeleted")
-                .version(bom.getVersion())
-                .occurredAt(OffsetDateTime.now().toString())
-                .payload(payload)
-                .build();
-
         outboxService.saveEvent(
                 "BOM",
                 bom.getId(),
                 "BomDeleted",
                 bom.getVersion(),
-                event.getPayload()
+                payload
         );
     }
 
@@ -341,6 +351,38 @@ public class BomService {
                 .build();
     }
 
+    /**
+     * BOM 검색 (커서 기반)
+     * - (bomCode, id) 키셋으로 다음 페이지를 읽으므로 OFFSET/COUNT 없이 페이지당 비용이 일정
+     * - includeCount=true 일 때만 전체 개수를 함께 조회
+     */
+    @Transactional(readOnly = true)
+    public CursorResponseDTO<BomResponseDTO> scrollBoms(
+            String keyword,
+            Long categoryId,
+            Long groupId,
+            BomStatus status,
+            BomComplexity complexity,
+            String cursor,
+            int size,
+            boolean includeCount
+    ) {
+        int safeSize = Math.min(Math.max(size, 1), 100);
+        CursorToken token = CursorToken.decode(cursor);
+
+        List<Bom> rows = bomRepository.scrollByFilters(
+                keyword, categoryId, groupId, status, complexity,
+                token != null ? token.getKey() : null,
+                token != null ? token.getId() : null,
+                PageRequest.of(0, safeSize + 1));
+
+        Long total = includeCount
+                ? bomRepository.countByFilters(keyword, categoryId, groupId, status, complexity)
+                : null;
+
+        return CursorResponseDTO.of(rows, safeSize, Bom::getBomCode, Bom::getId, BomResponseDTO::from, total);
+    }
+
     /**
      * BOM 상태 변경 (활성/비활성 등)
      */
@@ -354,14 +396,49 @@ public class BomService {
 
     /**
      * 모든 BOM의 totalCost 재계산 (quantity가 Double로 변경된 후 실행)
+     * - bom_id 청크마다 SQL 한 번으로 합계를 계산해 값이 다른 BOM만 UPDATE (엔티티/자재 로딩 없음)
+     * - 청크마다 별도 트랜잭션으로 처리하고, 총비용이 바뀐 BOM만 BomUpdated 이벤트 발행
+     * - 바뀐 BOM의 Part 표준 비용도 함께 재계산
+     * @return 총비용이 바뀐 BOM id
      */
-    @Transactional
-    public void recalculateAllBomTotalCosts() {
-        List<Bom> boms = bomRepository.findAll();
-        for (Bom bom : boms) {
-            bom.calculateTotalCost();
+    public List<Long> recalculateAllBomTotalCosts() {
+        List<Long> changedIds = new ArrayList<>();
+        Long lastId = 0L;
+
+        while (true) {
+            Long fromId = lastId;
+            Long toId = bomCostJdbcRepository.findChunkUpperId(fromId, RECALCULATE_CHUNK_SIZE);
+            if (toId == null) {
+                break;
+            }
+
+            changedIds.addAll(transactionTemplate.execute(status -> recalculateBomTotalCostRange(fromId, toId)));
+            lastId = toId;
         }
-        bomRepository.saveAll(boms);
+
+        log.info("BOM 총비용 전체 재계산 완료: 변경={}건", changedIds.size());
+        return changedIds;
+    }
+
+    private List<Long> recalculateBomTotalCostRange(Long fromId, Long toId) {
+        List<Long> staleIds = bomCostJdbcRepository.findStaleTotalCostIds(fromId, toId);
+        if (staleIds.isEmpty()) {
+            return staleIds;
+        }
+
+        bomCostJdbcRepository.updateTotalCosts(staleIds);
+
+        // 갱신된 BOM만 로딩해서 이벤트 구성 (새 트랜잭션이므로 갱신된 값/버전을 읽음)
+        List<OutboxEventRequest> events = new ArrayList<>();
+        Set<Long> partIds = new LinkedHashSet<>();
+        for (Bom bom : bomRepository.findAllWithPartAndMaterialsByIdIn(staleIds)) {
+            events.add(toBomUpdatedEvent(bom));
+            partIds.add(bom.getPart().getId());
+        }
+        events.addAll(partService.recalculateStandardCosts(partIds));
+
+        outboxService.saveEvents(events);
+        return staleIds;
     }
 
     /**
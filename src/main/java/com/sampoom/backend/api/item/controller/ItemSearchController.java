@@ -3,6 +3,7 @@ package com.sampoom.backend.api.item.controller;
 import com.sampoom.backend.api.item.dto.ItemResponseDTO;
 import com.sampoom.backend.api.item.enums.ItemType;
 import com.sampoom.backend.api.item.service.ItemService;
+import com.sampoom.backend.common.dto.CursorResponseDTO;
 import com.sampoom.backend.common.dto.PageResponseDTO;
 import com.sampoom.backend.common.response.ApiResponse;
 import com.sampoom.backend.common.response.SuccessStatus;
@@ -12,6 +13,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Tag(name = "ItemSearch", description = "부품/자재 통합 검색 API")
 @RestController
 @RequestMapping("/items")
@@ -25,6 +28,7 @@ public class ItemSearchController {
             - type: ALL / PART / MATERIAL
             - 부품일 때: partCategoryId, partGroupId 사용
             - 자재일 때: materialCategoryId 사용
+            - 정렬: 코드순 (관련도 순은 /items/suggest)
             """)
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<PageResponseDTO<ItemResponseDTO>>> searchItems(
@@ -41,4 +45,47 @@ public class ItemSearchController {
 
         return ApiResponse.success(SuccessStatus.OK, result);
     }
+
+    @Operation(summary = "품목 통합 검색 (커서 페이지)", description = """
+            코드순으로 커서 기반 페이지 조회합니다. 응답의 nextCursor를 cursor로 넘기면 다음 페이지를 조회합니다.
+            - 필터는 통합 검색과 동일
+            - 페이지 번호 방식(/items/search)과 달리 뒤 페이지도 첫 페이지와 같은 비용
+            """)
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorResponseDTO<ItemResponseDTO>>> scrollItems(
+            @RequestParam(defaultValue = "ALL") ItemType type,
+            @RequestParam(required = false) Long partCategoryId,
+            @RequestParam(required = false) Long partGroupId,
+            @RequestParam(required = false) Long materialCategoryId,
+            @RequestParam(defaultValue = "") String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeCount
+    ) {
+        CursorResponseDTO<ItemResponseDTO> result = itemService.scrollItems(
+                type, partCategoryId, partGroupId, materialCategoryId, keyword, cursor, size, includeCount);
+
+        return ApiResponse.success(SuccessStatus.OK, result);
+    }
+
+    @Operation(summary = "품목 자동완성", description = """
+            키워드와 관련도가 높은 순으로 부품/자재를 최대 limit건 조회합니다.
+            - 인메모리 검색 인덱스: 코드 일치 > 코드 앞부분 > 이름 앞부분 > 부분 일치 순 (DB 조회 없음)
+            - 인덱스 구성 전: PostgreSQL(pg_trgm)은 trigram 유사도 순, 그 외에는 위와 같은 순서로 DB 조회
+            - 필터는 통합 검색과 동일
+            """)
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<ItemResponseDTO>>> suggestItems(
+            @RequestParam(defaultValue = "ALL") ItemType type,
+            @RequestParam(required = false) Long partCategoryId,
+            @RequestParam(required = false) Long partGroupId,
+            @RequestParam(required = false) Long materialCategoryId,
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        List<ItemResponseDTO> result =
+                itemService.suggestItems(type, partCategoryId, partGroupId, materialCategoryId, keyword, limit);
+
+        return ApiResponse.success(SuccessStatus.OK, result);
+    }
 }
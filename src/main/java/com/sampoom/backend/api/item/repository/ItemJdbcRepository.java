@@ -1,64 +1,333 @@
 package com.sampoom.backend.api.item.repository;
 
 import com.sampoom.backend.api.item.dto.ItemResponseDTO;
+import com.sampoom.backend.api.item.enums.ItemType;
+import com.sampoom.backend.common.config.SearchIndexInitializer;
+import com.sampoom.backend.common.dto.CursorToken;
+import com.sampoom.backend.common.exception.BadRequestException;
+import com.sampoom.backend.common.response.ErrorStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 부품/자재 통합 검색 (part_master + material_master UNION ALL)
+ * - 키워드 조건은 LOWER(col) LIKE '%kw%' → PostgreSQL에서는 trigram GIN 인덱스(SearchIndexInitializer) 사용
+ * - 부품은 ACTIVE만, 필터는 PartService/MaterialService 검색과 동일
+ * - 정렬은 code, type, id (자재 코드는 카테고리 간, 부품 코드와도 겹칠 수 있어 끝까지 고정)
+ */
 @Repository
 @RequiredArgsConstructor
 public class ItemJdbcRepository {
 
-    private final JdbcTemplate jdbcTemplate;
+    private static final String PART_SELECT = """
+            SELECT p.id, p.code, p.name, 'PART' AS type,
+                   g.category_id, c.name AS category_name, p.group_id, g.name AS group_name,
+                   p.part_unit AS unit, p.lead_time, p.base_quantity, p.standard_quantity, p.standard_cost,
+                   %s AS score
+            FROM part_master p
+            JOIN part_group g ON g.id = p.group_id
+            JOIN part_category c ON c.id = g.category_id
+            """;
 
-    public List<ItemResponseDTO> searchAll(String keyword, int offset, int size) {
-        String sql = """
-            SELECT id, code, name, 'MATERIAL' AS type, NULL AS category_id, NULL AS group_id
-            FROM material
-            WHERE LOWER(name) LIKE LOWER(?) OR LOWER(code) LIKE LOWER(?)
-            UNION ALL
-            SELECT id, code, name, 'PART' AS type,
-                   category_id AS category_id,
-                   group_id AS group_id
-            FROM part
-            WHERE LOWER(name) LIKE LOWER(?) OR LOWER(code) LIKE LOWER(?)
-            ORDER BY code
-            LIMIT ? OFFSET ?
+    private static final String MATERIAL_SELECT = """
+            SELECT m.id, m.material_code AS code, m.name, 'MATERIAL' AS type,
+                   m.material_category_id AS category_id, mc.name AS category_name, NULL AS group_id, NULL AS group_name,
+                   m.material_unit AS unit, m.lead_time, m.base_quantity, m.standard_quantity, m.standard_cost,
+                   %s AS score
+            FROM material_master m
+            JOIN material_category mc ON mc.id = m.material_category_id
             """;
 
-        return jdbcTemplate.query(
-                sql,
-                (rs, rowNum) -> ItemResponseDTO.builder()
-                        .type(rs.getString("type").equals("MATERIAL") ? "원자재" : "부품")
-                        .code(rs.getString("code"))
-                        .name(rs.getString("name"))
-                        .categoryId(rs.getLong("category_id") == 0 ? null : rs.getLong("category_id"))
-                        .groupId(rs.getLong("group_id") == 0 ? null : rs.getLong("group_id"))
-                        .build(),
-                "%" + keyword + "%", "%" + keyword + "%",
-                "%" + keyword + "%", "%" + keyword + "%",
-                size, offset
-        );
+    private static final RowMapper<ItemResponseDTO> ITEM_ROW_MAPPER = (rs, rowNum) -> ItemResponseDTO.builder()
+            .id(rs.getLong("id"))
+            .type(rs.getString("type").equals("MATERIAL") ? "원자재" : "부품")
+            .code(rs.getString("code"))
+            .name(rs.getString("name"))
+            .categoryId(rs.getObject("category_id", Long.class))
+            .categoryName(rs.getString("category_name"))
+            .groupId(rs.getObject("group_id", Long.class))
+            .groupName(rs.getString("group_name"))
+            .unit(rs.getString("unit"))
+            .leadTime(rs.getObject("lead_time", Integer.class))
+            .baseQuantity(rs.getObject("base_quantity", Integer.class))
+            .standardQuantity(rs.getObject("standard_quantity", Integer.class))
+            .standardCost(rs.getObject("standard_cost", Long.class))
+            .build();
+
+    // 커서 키 = "유형|코드" (CursorToken의 정렬 키 자리에 넣어 (code, type, id) 키셋으로 사용)
+    private static final String CURSOR_KEY_SEPARATOR = "|";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SearchIndexInitializer searchIndexInitializer;
+
+    /**
+     * 코드순 통합 검색 한 페이지 (페이지 번호 기반)
+     * - 부품/자재를 DB에서 한 번에 정렬해 LIMIT/OFFSET → 어느 페이지든 정확하고 페이지 크기만큼만 반환
+     * - 단, OFFSET 앞의 행도 모두 정렬해 읽고 버리므로 뒤 페이지일수록 느려짐 (깊은 페이지는 scrollAll 사용)
+     */
+    public List<ItemResponseDTO> searchAll(
+            ItemType itemType,
+            Long partCategoryId,
+            Long partGroupId,
+            Long materialCategoryId,
+            String keyword,
+            long offset,
+            int size
+    ) {
+        List<Object> params = new ArrayList<>();
+        String union = unionSql(itemType, partCategoryId, partGroupId, materialCategoryId,
+                containsPattern(keyword), "0", "0", List.of(), params);
+
+        String sql = "SELECT * FROM (" + union + ") items ORDER BY code, type, id LIMIT ? OFFSET ?";
+        params.add(size);
+        params.add(offset);
+
+        return jdbcTemplate.query(sql, ITEM_ROW_MAPPER, params.toArray());
     }
 
-    public int countAll(String keyword) {
-        String countSql = """
-            SELECT COUNT(*) FROM (
-                SELECT id FROM material
-                WHERE LOWER(name) LIKE LOWER(?) OR LOWER(code) LIKE LOWER(?)
-                UNION ALL
-                SELECT id FROM part
-                WHERE LOWER(name) LIKE LOWER(?) OR LOWER(code) LIKE LOWER(?)
-            ) AS total
-            """;
+    /**
+     * 코드순 통합 검색 한 페이지 (커서 기반)
+     * - 커서(마지막 행의 code, type, id) 다음 행부터 limit건 → OFFSET 없이 몇 번째 페이지든 비용이 같음
+     * - 부품/자재 각각 커서 조건 + 코드순 LIMIT으로 잘라(코드 인덱스 사용) 합친 뒤 다시 정렬
+     */
+    public List<ItemResponseDTO> scrollAll(
+            ItemType itemType,
+            Long partCategoryId,
+            Long partGroupId,
+            Long materialCategoryId,
+            String keyword,
+            CursorToken after,
+            int limit
+    ) {
+        String contains = containsPattern(keyword);
+        ItemType afterType = after != null ? cursorType(after.getKey()) : null;
+        String afterCode = after != null ? cursorCode(after.getKey()) : null;
+        Long afterId = after != null ? after.getId() : null;
+
+        List<Object> params = new ArrayList<>();
+        List<String> selects = new ArrayList<>();
+
+        if (itemType != ItemType.MATERIAL) {
+            StringBuilder sql = new StringBuilder(PART_SELECT.formatted("0"));
+            appendPartConditions(sql, params, contains, partCategoryId, partGroupId);
+            appendAfterConditions(sql, params, "p.code", "p.id", ItemType.PART, afterType, afterCode, afterId);
+            sql.append(" ORDER BY p.code, p.id LIMIT ?");
+            params.add(limit);
+            selects.add("(" + sql + ")");
+        }
+
+        if (itemType != ItemType.PART) {
+            StringBuilder sql = new StringBuilder(MATERIAL_SELECT.formatted("0"));
+            appendMaterialConditions(sql, params, contains, materialCategoryId);
+            appendAfterConditions(sql, params, "m.material_code", "m.id", ItemType.MATERIAL, afterType, afterCode, afterId);
+            sql.append(" ORDER BY m.material_code, m.id LIMIT ?");
+            params.add(limit);
+            selects.add("(" + sql + ")");
+        }
+
+        String sql = "SELECT * FROM (" + String.join(" UNION ALL ", selects) + ") items ORDER BY code, type, id LIMIT ?";
+        params.add(limit);
+
+        return jdbcTemplate.query(sql, ITEM_ROW_MAPPER, params.toArray());
+    }
+
+    /**
+     * 커서 정렬 키 ("유형|코드", scrollAll 결과의 다음 페이지 커서를 만들 때 사용)
+     */
+    public static String cursorKey(ItemResponseDTO item) {
+        ItemType type = "원자재".equals(item.getType()) ? ItemType.MATERIAL : ItemType.PART;
+        return type.name() + CURSOR_KEY_SEPARATOR + item.getCode();
+    }
+
+    /**
+     * 통합 검색 전체 건수 (부품/자재 각각 COUNT 후 합산)
+     */
+    public long countAll(
+            ItemType itemType,
+            Long partCategoryId,
+            Long partGroupId,
+            Long materialCategoryId,
+            String keyword
+    ) {
+        String contains = containsPattern(keyword);
+        long total = 0;
+
+        if (itemType != ItemType.MATERIAL) {
+            List<Object> params = new ArrayList<>();
+            StringBuilder sql = new StringBuilder(
+                    "SELECT COUNT(*) FROM part_master p JOIN part_group g ON g.id = p.group_id");
+            appendPartConditions(sql, params, contains, partCategoryId, partGroupId);
+            total += jdbcTemplate.queryForObject(sql.toString(), Long.class, params.toArray());
+        }
+
+        if (itemType != ItemType.PART) {
+            List<Object> params = new ArrayList<>();
+            StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM material_master m");
+            appendMaterialConditions(sql, params, contains, materialCategoryId);
+            total += jdbcTemplate.queryForObject(sql.toString(), Long.class, params.toArray());
+        }
+
+        return total;
+    }
+
+    /**
+     * 관련도 순 품목 검색 (자동완성용 상위 limit건)
+     * - 점수: pg_trgm 사용 가능하면 이름/코드 similarity 중 큰 값, 아니면 코드 일치 > 코드 앞부분 > 이름 앞부분 > 부분 일치
+     * - 동점은 코드순
+     */
+    public List<ItemResponseDTO> searchRanked(
+            ItemType itemType,
+            Long partCategoryId,
+            Long partGroupId,
+            Long materialCategoryId,
+            String keyword,
+            int limit
+    ) {
+        String kw = keyword.trim().toLowerCase();
+        String prefix = escapeLike(kw) + "%";
+        boolean trigram = searchIndexInitializer.isTrigramEnabled();
+        List<Object> scoreParams = trigram ? List.of(kw, kw) : List.of(kw, prefix, prefix);
+
+        List<Object> params = new ArrayList<>();
+        String union = unionSql(itemType, partCategoryId, partGroupId, materialCategoryId, containsPattern(keyword),
+                scoreExpression("p.name", "p.code", trigram),
+                scoreExpression("m.name", "m.material_code", trigram),
+                scoreParams, params);
+
+        String sql = "SELECT * FROM (" + union + ") ranked ORDER BY score DESC, code LIMIT ?";
+        params.add(limit);
+
+        return jdbcTemplate.query(sql, ITEM_ROW_MAPPER, params.toArray());
+    }
+
+    // 유형에 맞는 부품/자재 SELECT를 UNION ALL로 연결 (파라미터는 SQL 순서대로 params에 추가)
+    private static String unionSql(
+            ItemType itemType,
+            Long partCategoryId,
+            Long partGroupId,
+            Long materialCategoryId,
+            String contains,
+            String partScore,
+            String materialScore,
+            List<Object> scoreParams,
+            List<Object> params
+    ) {
+        List<String> selects = new ArrayList<>();
+
+        if (itemType != ItemType.MATERIAL) {
+            StringBuilder sql = new StringBuilder(PART_SELECT.formatted(partScore));
+            params.addAll(scoreParams);
+            appendPartConditions(sql, params, contains, partCategoryId, partGroupId);
+            selects.add(sql.toString());
+        }
+
+        if (itemType != ItemType.PART) {
+            StringBuilder sql = new StringBuilder(MATERIAL_SELECT.formatted(materialScore));
+            params.addAll(scoreParams);
+            appendMaterialConditions(sql, params, contains, materialCategoryId);
+            selects.add(sql.toString());
+        }
+
+        return String.join(" UNION ALL ", selects);
+    }
+
+    private static void appendPartConditions(
+            StringBuilder sql, List<Object> params, String contains, Long partCategoryId, Long partGroupId) {
+        sql.append(" WHERE p.status = 'ACTIVE'");
+        if (contains != null) {
+            sql.append(" AND (LOWER(p.name) LIKE ? ESCAPE '\\' OR LOWER(p.code) LIKE ? ESCAPE '\\')");
+            params.add(contains);
+            params.add(contains);
+        }
+        if (partCategoryId != null) {
+            sql.append(" AND g.category_id = ?");
+            params.add(partCategoryId);
+        }
+        if (partGroupId != null) {
+            sql.append(" AND p.group_id = ?");
+            params.add(partGroupId);
+        }
+    }
+
+    private static void appendMaterialConditions(
+            StringBuilder sql, List<Object> params, String contains, Long materialCategoryId) {
+        sql.append(" WHERE 1 = 1");
+        if (contains != null) {
+            sql.append(" AND (LOWER(m.name) LIKE ? ESCAPE '\\' OR LOWER(m.material_code) LIKE ? ESCAPE '\\')");
+            params.add(contains);
+            params.add(contains);
+        }
+        if (materialCategoryId != null) {
+            sql.append(" AND m.material_category_id = ?");
+            params.add(materialCategoryId);
+        }
+    }
+
+    // 커서 다음 행 조건 (code, type, id) > (커서 code, 커서 type, 커서 id)
+    // 한 SELECT 안에서는 type이 고정이므로 code/id 조건으로 풀어 코드 인덱스 범위 조회가 되게 함
+    private static void appendAfterConditions(
+            StringBuilder sql, List<Object> params, String codeColumn, String idColumn,
+            ItemType type, ItemType afterType, String afterCode, Long afterId) {
+        if (afterType == null) {
+            return;
+        }
+        // SQL의 type 문자열 정렬과 같은 순서로 비교 (MATERIAL < PART)
+        int typeOrder = type.name().compareTo(afterType.name());
+        if (typeOrder > 0) {
+            sql.append(" AND ").append(codeColumn).append(" >= ?");
+            params.add(afterCode);
+        } else if (typeOrder < 0) {
+            sql.append(" AND ").append(codeColumn).append(" > ?");
+            params.add(afterCode);
+        } else {
+            sql.append(" AND (").append(codeColumn).append(" > ? OR (")
+                    .append(codeColumn).append(" = ? AND ").append(idColumn).append(" > ?))");
+            params.add(afterCode);
+            params.add(afterCode);
+            params.add(afterId);
+        }
+    }
+
+    private static ItemType cursorType(String key) {
+        int separator = key.indexOf(CURSOR_KEY_SEPARATOR);
+        String type = separator < 0 ? "" : key.substring(0, separator);
+        if (!type.equals(ItemType.PART.name()) && !type.equals(ItemType.MATERIAL.name())) {
+            throw new BadRequestException(ErrorStatus.INVALID_CURSOR);
+        }
+        return ItemType.valueOf(type);
+    }
+
+    private static String cursorCode(String key) {
+        return key.substring(key.indexOf(CURSOR_KEY_SEPARATOR) + 1);
+    }
+
+    // 관련도 점수 식 (trigram 사용 가능하면 similarity, 아니면 일치 위치 기반)
+    private static String scoreExpression(String nameColumn, String codeColumn, boolean trigram) {
+        if (trigram) {
+            return "GREATEST(similarity(LOWER(%s), ?), similarity(LOWER(%s), ?))".formatted(nameColumn, codeColumn);
+        }
+        return """
+                CASE WHEN LOWER(%2$s) = ? THEN 4
+                     WHEN LOWER(%2$s) LIKE ? ESCAPE '\\' THEN 3
+                     WHEN LOWER(%1$s) LIKE ? ESCAPE '\\' THEN 2
+                     ELSE 1 END""".formatted(nameColumn, codeColumn);
+    }
+
+    // 부분 일치 LIKE 패턴 (키워드가 비어 있으면 null → 조건 생략)
+    private static String containsPattern(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        return "%" + escapeLike(keyword.trim().toLowerCase()) + "%";
+    }
 
-        return jdbcTemplate.queryForObject(
-                countSql,
-                Integer.class,
-                "%" + keyword + "%", "%" + keyword + "%",
-                "%" + keyword + "%", "%" + keyword + "%"
-        );
+    // LIKE 와일드카드(%, _) 이스케이프
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
     }
 }
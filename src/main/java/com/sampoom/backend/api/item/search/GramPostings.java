@@ -0,0 +1,110 @@
+package com.sampoom.backend.api.item.search;
+
+import java.util.Arrays;
+
+/**
+ * n-gram(int 키) → 슬롯 번호 목록 (역색인)
+ * - 오픈 어드레싱 해시로 int 키를 박싱 없이 저장
+ * - 슬롯 번호는 항상 증가하는 순서로 추가되므로 각 목록은 정렬된 상태를 유지 (교집합을 두 포인터로 계산)
+ * - 스레드 안전하지 않음 (ItemSearchIndex의 락 안에서만 사용)
+ */
+final class GramPostings {
+
+    private static final int INITIAL_CAPACITY = 1 << 12;
+
+    private int[] keys = new int[INITIAL_CAPACITY];
+    private Postings[] values = new Postings[INITIAL_CAPACITY];
+    private int size;
+
+    Postings get(int key) {
+        return values[indexOf(key)];
+    }
+
+    void add(int key, int slot) {
+        int index = indexOf(key);
+        Postings postings = values[index];
+        if (postings == null) {
+            postings = new Postings();
+            keys[index] = key;
+            values[index] = postings;
+            if (++size * 2 > values.length) {
+                resize();
+            }
+        }
+        postings.add(slot);
+    }
+
+    // 키가 있으면 그 위치, 없으면 비어 있는 위치 (선형 탐사)
+    private int indexOf(int key) {
+        int mask = values.length - 1;
+        int index = mix(key) & mask;
+        while (values[index] != null && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void resize() {
+        int[] oldKeys = keys;
+        Postings[] oldValues = values;
+        keys = new int[oldKeys.length * 2];
+        values = new Postings[oldValues.length * 2];
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * 정렬된 슬롯 번호 목록 (int 배열)
+     */
+    static final class Postings {
+
+        private int[] slots = new int[4];
+        private int size;
+
+        private void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(slots, size);
+        }
+
+        /**
+         * 정렬된 candidates[0, length)와의 교집합을 candidates 앞쪽에 덮어쓰고 개수를 반환
+         */
+        int retainAll(int[] candidates, int length) {
+            int kept = 0;
+            int i = 0;
+            int j = 0;
+            while (i < length && j < size) {
+                if (candidates[i] < slots[j]) {
+                    i++;
+                } else if (candidates[i] > slots[j]) {
+                    j++;
+                } else {
+                    candidates[kept++] = candidates[i];
+                    i++;
+                    j++;
+                }
+            }
+            return kept;
+        }
+    }
+}
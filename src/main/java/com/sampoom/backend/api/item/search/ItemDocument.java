@@ -0,0 +1,121 @@
+package com.sampoom.backend.api.item.search;
+
+import com.sampoom.backend.api.item.dto.ItemResponseDTO;
+import com.sampoom.backend.api.item.enums.ItemType;
+import com.sampoom.backend.api.material.entity.Material;
+import com.sampoom.backend.api.part.entity.Part;
+import com.sampoom.backend.api.part.entity.PartCategory;
+import com.sampoom.backend.api.part.entity.PartGroup;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 검색 인덱스에 들어가는 품목 1건 (변경 불가 스냅샷)
+ * - 트랜잭션 안에서 엔티티로부터 만들어 두고 커밋 후 인덱스에 반영하므로 지연 로딩 없이 응답 생성
+ * - searchCode/searchName: 정규화(NFC + 소문자)한 검색용 문자열
+ * - version: 엔티티 @Version (늦게 도착한 이전 버전 반영을 무시하는 데 사용)
+ */
+@Getter
+@Builder(toBuilder = true, access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ItemDocument {
+
+    private final ItemType type;    // PART / MATERIAL
+    private final Long id;
+    private final Long version;
+    private final String code;
+    private final String name;
+
+    private final Long categoryId;
+    private final String categoryName;
+
+    private final Long groupId;     // 부품만
+    private final String groupName; // 부품만
+
+    private final String unit;
+    private final Integer leadTime;
+    private final Integer baseQuantity;
+    private final Integer standardQuantity;
+    private final Long standardCost;
+
+    private final String searchCode;
+    private final String searchName;
+
+    public static ItemDocument ofPart(Part part) {
+        PartGroup group = part.getPartGroup();
+        PartCategory category = group.getCategory();
+        return ItemDocument.builder()
+                .type(ItemType.PART)
+                .id(part.getId())
+                .version(part.getVersion())
+                .code(part.getCode())
+                .name(part.getName())
+                .categoryId(category.getId())
+                .categoryName(category.getName())
+                .groupId(group.getId())
+                .groupName(group.getName())
+                .unit(part.getPartUnit())
+                .leadTime(part.getLeadTime())
+                .baseQuantity(part.getBaseQuantity())
+                .standardQuantity(part.getStandardQuantity())
+                .standardCost(part.getStandardCost())
+                .searchCode(ItemSearchIndex.normalize(part.getCode()))
+                .searchName(ItemSearchIndex.normalize(part.getName()))
+                .build();
+    }
+
+    public static ItemDocument ofMaterial(Material material) {
+        return ItemDocument.builder()
+                .type(ItemType.MATERIAL)
+                .id(material.getId())
+                .version(material.getVersion())
+                .code(material.getMaterialCode())
+                .name(material.getName())
+                .categoryId(material.getMaterialCategory().getId())
+                .categoryName(material.getMaterialCategory().getName())
+                .unit(material.getMaterialUnit())
+                .leadTime(material.getLeadTime())
+                .baseQuantity(material.getBaseQuantity())
+                .standardQuantity(material.getStandardQuantity())
+                .standardCost(material.getStandardCost())
+                .searchCode(ItemSearchIndex.normalize(material.getMaterialCode()))
+                .searchName(ItemSearchIndex.normalize(material.getName()))
+                .build();
+    }
+
+    // 부품 그룹명/소속 카테고리 변경 반영 (코드/이름이 그대로라 n-gram은 다시 만들 필요 없음)
+    ItemDocument withGroup(String groupName, Long categoryId, String categoryName) {
+        return toBuilder()
+                .groupName(groupName)
+                .categoryId(categoryId)
+                .categoryName(categoryName)
+                .build();
+    }
+
+    // 카테고리명 변경 반영
+    ItemDocument withCategoryName(String categoryName) {
+        return toBuilder()
+                .categoryName(categoryName)
+                .build();
+    }
+
+    public ItemResponseDTO toResponse() {
+        return ItemResponseDTO.builder()
+                .id(id)
+                .type(type == ItemType.MATERIAL ? "원자재" : "부품")
+                .code(code)
+                .name(name)
+                .categoryId(categoryId)
+                .categoryName(categoryName)
+                .groupId(groupId)
+                .groupName(groupName)
+                .unit(unit)
+                .leadTime(leadTime)
+                .baseQuantity(baseQuantity)
+                .standardQuantity(standardQuantity)
+                .standardCost(standardCost)
+                .build();
+    }
+}
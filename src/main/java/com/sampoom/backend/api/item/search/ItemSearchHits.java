@@ -0,0 +1,17 @@
+package com.sampoom.backend.api.item.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 인덱스 검색 결과 (요청한 구간의 문서 + 전체 일치 건수)
+ */
+@Getter
+@AllArgsConstructor
+public class ItemSearchHits {
+
+    private List<ItemDocument> documents;
+    private int totalElements;
+}
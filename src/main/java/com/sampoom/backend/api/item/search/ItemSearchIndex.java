@@ -0,0 +1,601 @@
+package com.sampoom.backend.api.item.search;
+
+import com.sampoom.backend.api.item.enums.ItemType;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 부품/자재 코드·이름 인메모리 역색인 (품목 검색/자동완성용)
+ * - 코드와 이름을 NFC + 소문자로 정규화한 뒤 글자 2개(bigram)를 int 하나로 묶어 키로 사용
+ *   (한글 음절은 char 1개이므로 음절 단위 bigram, 조합형(NFD) 입력도 NFC로 맞춰 같은 키가 됨)
+ * - 키워드의 bigram 목록 교집합으로 후보를 좁힌 뒤 부분 문자열로 확인 (LIKE '%kw%'와 같은 결과)
+ * - 한 글자 키워드는 bigram이 없으므로 전체 문서를 확인 (정렬 없이 상위 건만 유지)
+ * - 일치 문서를 모두 정렬하지 않고 offset + limit건만 bounded heap으로 유지
+ * - 키워드가 없으면 코드순으로 유지하는 목록(TreeMap)을 앞에서부터 읽고, 전체 건수는 카테고리/그룹별 카운터로 계산
+ * - 문서 변경은 새 슬롯에 추가하고 이전 슬롯은 비워 둠 → 목록이 항상 정렬 상태, 빈 슬롯이 많아지면 재구성
+ * - 문서별 마지막 반영 버전을 (제거된 문서도) 기억해 두고 그보다 오래된 추가/제거는 무시
+ *   (커밋 후 반영 순서가 커밋 순서와 달라도, 구성 중 모아 둔 변경이 구성 결과보다 오래돼도 최신 상태 유지)
+ * - 읽기는 여러 스레드가 동시에, 쓰기는 한 번에 하나 (ReentrantReadWriteLock)
+ */
+@Component
+public class ItemSearchIndex {
+
+    private static final int INITIAL_SLOTS = 1024;
+
+    // 관련도 점수: 코드 일치 > 코드 앞부분 > 이름 앞부분 > 부분 일치
+    private static final int SCORE_EXACT_CODE = 4;
+    private static final int SCORE_CODE_PREFIX = 3;
+    private static final int SCORE_NAME_PREFIX = 2;
+    private static final int SCORE_CONTAINS = 1;
+
+    // 통합 검색 순서: 코드, 유형(MATERIAL < PART), id (ItemJdbcRepository의 ORDER BY code, type, id와 같음)
+    private static final Comparator<ItemDocument> CODE_ORDER = Comparator
+            .comparing(ItemDocument::getCode, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(document -> document.getType().name())
+            .thenComparing(ItemDocument::getId);
+
+    // 자동완성 순서: 관련도, 동점은 통합 검색 순서
+    private static final Comparator<ScoredDocument> RANKING = Comparator
+            .comparingInt(ScoredDocument::score).reversed()
+            .thenComparing(ScoredDocument::document, CODE_ORDER);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private ItemDocument[] slots = new ItemDocument[INITIAL_SLOTS];
+    private int slotCount;
+    private int liveCount;
+    private GramPostings postings = new GramPostings();
+    private final Map<Long, Integer> partSlots = new HashMap<>();
+    private final Map<Long, Integer> materialSlots = new HashMap<>();
+    private final Map<Long, Long> partVersions = new HashMap<>();
+    private final Map<Long, Long> materialVersions = new HashMap<>();
+
+    // 코드순 목록 (키워드 없는 조회용), 유형별로 나눠 두고 조회 시 병합
+    private final TreeMap<CodeKey, ItemDocument> partsByCode = new TreeMap<>();
+    private final TreeMap<CodeKey, ItemDocument> materialsByCode = new TreeMap<>();
+
+    // 필터별 문서 수 (키워드 없는 조회의 전체 건수)
+    private final Map<Long, Integer> partCountByCategory = new HashMap<>();
+    private final Map<Long, Integer> partCountByGroup = new HashMap<>();
+    private final Map<Long, Integer> materialCountByCategory = new HashMap<>();
+    private final Map<Long, Long> groupCategory = new HashMap<>();
+
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 문서로 인덱스를 새로 구성 (기동 시 1회)
+     */
+    public void rebuild(Collection<ItemDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            resetUnlocked(Math.max(INITIAL_SLOTS, documents.size()));
+            partVersions.clear();
+            materialVersions.clear();
+            for (ItemDocument document : documents) {
+                removeUnlocked(document.getType(), document.getId());
+                appendUnlocked(document);
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 추가 또는 교체
+     * - 더 새 버전이 반영돼 있거나, 같은 버전에서 이미 제거된 문서면 무시
+     *   (같은 버전 교체는 허용: 한 트랜잭션 안에서 flush 없이 두 번 반영되는 경우 뒤의 스냅샷이 최신)
+     */
+    public void upsert(ItemDocument document) {
+        lock.writeLock().lock();
+        try {
+            Long applied = versionMap(document.getType()).get(document.getId());
+            boolean removedAtSameVersion = applied != null && applied.equals(document.getVersion())
+                    && !slotMap(document.getType()).containsKey(document.getId());
+            if (isOlder(document.getVersion(), applied) || removedAtSameVersion) {
+                return;
+            }
+            removeUnlocked(document.getType(), document.getId());
+            appendUnlocked(document);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 제거 (없거나 더 새 버전이 반영돼 있으면 무시)
+     * - 삭제는 버전을 올리지 않으므로 같은 버전의 제거는 반영
+     */
+    public void remove(ItemType type, Long id, Long version) {
+        lock.writeLock().lock();
+        try {
+            if (isOlder(version, versionMap(type).get(id))) {
+                return;
+            }
+            recordVersion(type, id, version);
+            removeUnlocked(type, id);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 부품 그룹명/소속 카테고리 변경을 해당 그룹 부품에 반영
+     */
+    public void updatePartGroup(Long groupId, String groupName, Long categoryId, String categoryName) {
+        lock.writeLock().lock();
+        try {
+            for (int slot = 0; slot < slotCount; slot++) {
+                ItemDocument document = slots[slot];
+                if (document != null && document.getType() == ItemType.PART && groupId.equals(document.getGroupId())) {
+                    ItemDocument updated = document.withGroup(groupName, categoryId, categoryName);
+                    slots[slot] = updated;
+                    partsByCode.put(CodeKey.of(updated), updated);
+                    adjust(partCountByCategory, document.getCategoryId(), -1);
+                    adjust(partCountByCategory, categoryId, 1);
+                }
+            }
+            if (partCountByGroup.containsKey(groupId)) {
+                groupCategory.put(groupId, categoryId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 부품 카테고리명 변경을 해당 카테고리 부품에 반영
+     */
+    public void updatePartCategory(Long categoryId, String categoryName) {
+        lock.writeLock().lock();
+        try {
+            for (int slot = 0; slot < slotCount; slot++) {
+                ItemDocument document = slots[slot];
+                if (document != null && document.getType() == ItemType.PART && categoryId.equals(document.getCategoryId())) {
+                    ItemDocument updated = document.withCategoryName(categoryName);
+                    slots[slot] = updated;
+                    partsByCode.put(CodeKey.of(updated), updated);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드 + 유형/카테고리/그룹 필터 검색 (코드순, offset부터 limit건)
+     * - DB 검색(부품/자재/통합)과 같은 (code, type, id) 순서 → 인덱스 준비 전후로 페이지가 어긋나지 않음
+     * - 키워드가 비어 있으면 필터만 적용
+     */
+    public ItemSearchHits search(
+            ItemType itemType,
+            Long partCategoryId,
+            Long partGroupId,
+            Long materialCategoryId,
+            String keyword,
+            int offset,
+            int limit
+    ) {
+        String kw = normalize(keyword);
+        int top = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+
+        lock.readLock().lock();
+        try {
+            if (kw.isEmpty()) {
+                return browseUnlocked(itemType, partCategoryId, partGroupId, materialCategoryId, offset, limit);
+            }
+
+            // 코드순으로 가장 뒤인 문서가 맨 위 → 더 앞선 문서가 오면 교체
+            PriorityQueue<ItemDocument> heap = new PriorityQueue<>(Math.min(top, 1024) + 1, CODE_ORDER.reversed());
+            int total = 0;
+
+            int[] candidates = kw.length() >= 2 ? candidateSlots(kw) : null;
+            int candidateCount = candidates != null ? candidates.length : slotCount;
+            for (int i = 0; i < candidateCount; i++) {
+                ItemDocument document = slots[candidates != null ? candidates[i] : i];
+                if (document == null
+                        || !matchesFilter(document, itemType, partCategoryId, partGroupId, materialCategoryId)
+                        || score(document, kw) == 0) {
+                    continue;
+                }
+                total++;
+                if (heap.size() < top) {
+                    heap.add(document);
+                } else if (top > 0 && CODE_ORDER.compare(document, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(document);
+                }
+            }
+
+            List<ItemDocument> sorted = new ArrayList<>(heap);
+            sorted.sort(CODE_ORDER);
+            int from = Math.min(offset, sorted.size());
+            return new ItemSearchHits(List.copyOf(sorted.subList(from, sorted.size())), total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 자동완성: 키워드 + 필터에 맞는 문서를 관련도 순으로 상위 limit건
+     * - 키워드가 없으면 코드순 앞에서부터 limit건
+     */
+    public List<ItemDocument> suggest(
+            ItemType itemType,
+            Long partCategoryId,
+            Long partGroupId,
+            Long materialCategoryId,
+            String keyword,
+            int limit
+    ) {
+        String kw = normalize(keyword);
+
+        lock.readLock().lock();
+        try {
+            if (kw.isEmpty()) {
+                return browseUnlocked(itemType, partCategoryId, partGroupId, materialCategoryId, 0, limit)
+                        .getDocuments();
+            }
+
+            // 관련도가 가장 낮은 문서가 맨 위 → 더 나은 문서가 오면 교체 (교체될 때만 ScoredDocument 생성)
+            PriorityQueue<ScoredDocument> heap = new PriorityQueue<>(Math.min(limit, 1024) + 1, RANKING.reversed());
+
+            int[] candidates = kw.length() >= 2 ? candidateSlots(kw) : null;
+            int candidateCount = candidates != null ? candidates.length : slotCount;
+            for (int i = 0; i < candidateCount; i++) {
+                ItemDocument document = slots[candidates != null ? candidates[i] : i];
+                if (document == null
+                        || !matchesFilter(document, itemType, partCategoryId, partGroupId, materialCategoryId)) {
+                    continue;
+                }
+                int score = score(document, kw);
+                if (score == 0) {
+                    continue;
+                }
+                if (heap.size() < limit) {
+                    heap.add(new ScoredDocument(document, score));
+                } else if (limit > 0 && ranksBefore(score, document, heap.peek())) {
+                    heap.poll();
+                    heap.add(new ScoredDocument(document, score));
+                }
+            }
+
+            List<ScoredDocument> sorted = new ArrayList<>(heap);
+            sorted.sort(RANKING);
+            return sorted.stream().map(ScoredDocument::document).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 키워드 없는 조회: 코드순 목록을 앞에서부터 읽어 필터에 맞는 offset번째부터 limit건, 전체 건수는 카운터로 계산
+    private ItemSearchHits browseUnlocked(
+            ItemType itemType,
+            Long partCategoryId,
+            Long partGroupId,
+            Long materialCategoryId,
+            int offset,
+            int limit
+    ) {
+        Iterator<ItemDocument> parts = itemType != ItemType.MATERIAL
+                ? partsByCode.values().iterator() : Collections.emptyIterator();
+        Iterator<ItemDocument> materials = itemType != ItemType.PART
+                ? materialsByCode.values().iterator() : Collections.emptyIterator();
+
+        List<ItemDocument> page = new ArrayList<>(Math.min(limit, 1024));
+        ItemDocument part = nextMatching(parts, itemType, partCategoryId, partGroupId, materialCategoryId);
+        ItemDocument material = nextMatching(materials, itemType, partCategoryId, partGroupId, materialCategoryId);
+        int skipped = 0;
+
+        while (page.size() < limit && (part != null || material != null)) {
+            ItemDocument next;
+            // 코드가 같으면 MATERIAL이 먼저 (CODE_ORDER와 같음)
+            if (part == null || (material != null && CODE_ORDER.compare(material, part) < 0)) {
+                next = material;
+                material = nextMatching(materials, itemType, partCategoryId, partGroupId, materialCategoryId);
+            } else {
+                next = part;
+                part = nextMatching(parts, itemType, partCategoryId, partGroupId, materialCategoryId);
+            }
+
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                page.add(next);
+            }
+        }
+
+        return new ItemSearchHits(page, countUnlocked(itemType, partCategoryId, partGroupId, materialCategoryId));
+    }
+
+    private static ItemDocument nextMatching(
+            Iterator<ItemDocument> documents,
+            ItemType itemType,
+            Long partCategoryId,
+            Long partGroupId,
+            Long materialCategoryId
+    ) {
+        while (documents.hasNext()) {
+            ItemDocument document = documents.next();
+            if (matchesFilter(document, itemType, partCategoryId, partGroupId, materialCategoryId)) {
+                return document;
+            }
+        }
+        return null;
+    }
+
+    // 필터에 맞는 문서 수 (문서를 읽지 않고 카운터로 계산)
+    private int countUnlocked(ItemType itemType, Long partCategoryId, Long partGroupId, Long materialCategoryId) {
+        int total = 0;
+        if (itemType != ItemType.MATERIAL) {
+            if (partGroupId != null) {
+                boolean inCategory = partCategoryId == null || partCategoryId.equals(groupCategory.get(partGroupId));
+                total += inCategory ? partCountByGroup.getOrDefault(partGroupId, 0) : 0;
+            } else if (partCategoryId != null) {
+                total += partCountByCategory.getOrDefault(partCategoryId, 0);
+            } else {
+                total += partsByCode.size();
+            }
+        }
+        if (itemType != ItemType.PART) {
+            total += materialCategoryId != null
+                    ? materialCountByCategory.getOrDefault(materialCategoryId, 0)
+                    : materialsByCode.size();
+        }
+        return total;
+    }
+
+    // RANKING 기준으로 (score, document)가 worst보다 앞서는지
+    private static boolean ranksBefore(int score, ItemDocument document, ScoredDocument worst) {
+        if (score != worst.score()) {
+            return score > worst.score();
+        }
+        return CODE_ORDER.compare(document, worst.document()) < 0;
+    }
+
+    // 검색용 문자열 정규화 (NFC + 소문자 + 앞뒤 공백 제거)
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return Normalizer.normalize(value, Normalizer.Form.NFC).toLowerCase(Locale.ROOT).strip();
+    }
+
+    // 키워드의 모든 bigram을 가진 슬롯 (작은 목록부터 교집합)
+    private int[] candidateSlots(String kw) {
+        int[] grams = bigrams(kw);
+        GramPostings.Postings[] lists = new GramPostings.Postings[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = postings.get(grams[i]);
+            if (lists[i] == null) {
+                return new int[0];
+            }
+        }
+        Arrays.sort(lists, Comparator.comparingInt(GramPostings.Postings::size));
+
+        int[] candidates = lists[0].toArray();
+        int length = candidates.length;
+        for (int i = 1; i < lists.length && length > 0; i++) {
+            length = lists[i].retainAll(candidates, length);
+        }
+        return Arrays.copyOf(candidates, length);
+    }
+
+    private static boolean matchesFilter(
+            ItemDocument document,
+            ItemType itemType,
+            Long partCategoryId,
+            Long partGroupId,
+            Long materialCategoryId
+    ) {
+        if (document.getType() == ItemType.PART) {
+            return itemType != ItemType.MATERIAL
+                    && (partCategoryId == null || partCategoryId.equals(document.getCategoryId()))
+                    && (partGroupId == null || partGroupId.equals(document.getGroupId()));
+        }
+        return itemType != ItemType.PART
+                && (materialCategoryId == null || materialCategoryId.equals(document.getCategoryId()));
+    }
+
+    // 0이면 불일치
+    private static int score(ItemDocument document, String kw) {
+        String code = document.getSearchCode();
+        String name = document.getSearchName();
+        if (kw.isEmpty()) {
+            return SCORE_CONTAINS;
+        }
+        if (code.equals(kw)) {
+            return SCORE_EXACT_CODE;
+        }
+        if (code.startsWith(kw)) {
+            return SCORE_CODE_PREFIX;
+        }
+        if (name.startsWith(kw)) {
+            return SCORE_NAME_PREFIX;
+        }
+        if (code.contains(kw) || name.contains(kw)) {
+            return SCORE_CONTAINS;
+        }
+        return 0;
+    }
+
+    // 중복 없는 bigram 키 (정렬됨)
+    private static int[] bigrams(String... values) {
+        int total = 0;
+        for (String value : values) {
+            total += Math.max(value.length() - 1, 0);
+        }
+        int[] grams = new int[total];
+        int count = 0;
+        for (String value : values) {
+            for (int i = 0; i + 1 < value.length(); i++) {
+                grams[count++] = (value.charAt(i) << 16) | value.charAt(i + 1);
+            }
+        }
+        Arrays.sort(grams);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || grams[distinct - 1] != grams[i]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+
+    private Map<Long, Integer> slotMap(ItemType type) {
+        return type == ItemType.PART ? partSlots : materialSlots;
+    }
+
+    private Map<Long, Long> versionMap(ItemType type) {
+        return type == ItemType.PART ? partVersions : materialVersions;
+    }
+
+    // 버전을 모르는 변경(null)은 항상 반영
+    private static boolean isOlder(Long version, Long applied) {
+        return version != null && applied != null && version < applied;
+    }
+
+    private void recordVersion(ItemType type, Long id, Long version) {
+        if (version != null) {
+            versionMap(type).merge(id, version, Math::max);
+        }
+    }
+
+    private void appendUnlocked(ItemDocument document) {
+        if (slotCount == slots.length) {
+            slots = Arrays.copyOf(slots, slots.length * 2);
+        }
+        int slot = slotCount++;
+        slots[slot] = document;
+        slotMap(document.getType()).put(document.getId(), slot);
+        recordVersion(document.getType(), document.getId(), document.getVersion());
+        liveCount++;
+
+        if (document.getType() == ItemType.PART) {
+            partsByCode.put(CodeKey.of(document), document);
+            adjust(partCountByCategory, document.getCategoryId(), 1);
+            adjust(partCountByGroup, document.getGroupId(), 1);
+            groupCategory.put(document.getGroupId(), document.getCategoryId());
+        } else {
+            materialsByCode.put(CodeKey.of(document), document);
+            adjust(materialCountByCategory, document.getCategoryId(), 1);
+        }
+
+        for (int gram : bigrams(document.getSearchCode(), document.getSearchName())) {
+            postings.add(gram, slot);
+        }
+    }
+
+    private void removeUnlocked(ItemType type, Long id) {
+        Integer slot = slotMap(type).remove(id);
+        if (slot == null) {
+            return;
+        }
+        ItemDocument document = slots[slot];
+        slots[slot] = null;
+        liveCount--;
+
+        if (type == ItemType.PART) {
+            partsByCode.remove(CodeKey.of(document));
+            adjust(partCountByCategory, document.getCategoryId(), -1);
+            if (adjust(partCountByGroup, document.getGroupId(), -1) == 0) {
+                groupCategory.remove(document.getGroupId());
+            }
+        } else {
+            materialsByCode.remove(CodeKey.of(document));
+            adjust(materialCountByCategory, document.getCategoryId(), -1);
+        }
+    }
+
+    // 빈 슬롯이 살아 있는 문서 수보다 많아지면 살아 있는 문서만으로 다시 구성
+    private void compactIfNeeded() {
+        int dead = slotCount - liveCount;
+        if (dead <= INITIAL_SLOTS || dead <= liveCount) {
+            return;
+        }
+        List<ItemDocument> live = new ArrayList<>(liveCount);
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (slots[slot] != null) {
+                live.add(slots[slot]);
+            }
+        }
+        resetUnlocked(Math.max(INITIAL_SLOTS, live.size() * 2));
+        for (ItemDocument document : live) {
+            appendUnlocked(document);
+        }
+    }
+
+    private void resetUnlocked(int capacity) {
+        slots = new ItemDocument[capacity];
+        slotCount = 0;
+        liveCount = 0;
+        postings = new GramPostings();
+        partSlots.clear();
+        materialSlots.clear();
+        partsByCode.clear();
+        materialsByCode.clear();
+        partCountByCategory.clear();
+        partCountByGroup.clear();
+        materialCountByCategory.clear();
+        groupCategory.clear();
+    }
+
+    // 카운터 증감 후 값 반환 (0이 되면 제거)
+    private static int adjust(Map<Long, Integer> counts, Long key, int delta) {
+        Integer updated = counts.merge(key, delta, Integer::sum);
+        if (updated == null || updated == 0) {
+            counts.remove(key);
+            return 0;
+        }
+        return updated;
+    }
+
+    private record ScoredDocument(ItemDocument document, int score) {
+    }
+
+    // 같은 유형 안에서의 코드순 키 (code, id)
+    private record CodeKey(String code, Long id) implements Comparable<CodeKey> {
+
+        private static final Comparator<CodeKey> ORDER = Comparator
+                .comparing(CodeKey::code, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(CodeKey::id);
+
+        static CodeKey of(ItemDocument document) {
+            return new CodeKey(document.getCode(), document.getId());
+        }
+
+        @Override
+        public int compareTo(CodeKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
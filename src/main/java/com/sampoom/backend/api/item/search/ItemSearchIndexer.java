@@ -0,0 +1,185 @@
+package com.sampoom.backend.api.item.search;
+
+import com.sampoom.backend.api.item.enums.ItemType;
+import com.sampoom.backend.api.material.entity.Material;
+import com.sampoom.backend.api.material.repository.MaterialRepository;
+import com.sampoom.backend.api.part.entity.Part;
+import com.sampoom.backend.api.part.entity.PartCategory;
+import com.sampoom.backend.api.part.entity.PartGroup;
+import com.sampoom.backend.api.part.entity.PartStatus;
+import com.sampoom.backend.api.part.repository.PartRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 품목 검색 인덱스(ItemSearchIndex) 구성/갱신
+ * - 기동 완료 시 부품(ACTIVE)/자재 전체를 id 키셋 청크로 읽어 인덱스 구성 (청크마다 트랜잭션을 나눠 영속성 컨텍스트가 커지지 않음)
+ * - 부품/자재/부품 그룹/부품 카테고리의 Outbox 이벤트를 저장하는 경로에서 호출
+ *   → 트랜잭션 안에서 스냅샷을 만들어 두고 커밋 후(afterCommit)에만 반영 (롤백된 변경은 인덱스에 안 들어감)
+ * - 구성 중 들어온 변경은 모아 두었다가 구성 직후 순서대로 다시 적용
+ * - 구성 전/실패 시 ItemSearchIndex.isReady()가 false → 검색은 DB로 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemSearchIndexer {
+
+    // 기동 시 한 트랜잭션에서 읽을 행 수
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final ItemSearchIndex itemSearchIndex;
+    private final PartRepository partRepository;
+    private final MaterialRepository materialRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 구성 중 커밋된 변경 (구성 완료 후 재적용)
+    private final List<Consumer<ItemSearchIndex>> pendingChanges = new ArrayList<>();
+    private boolean building = true;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            List<ItemDocument> documents = new ArrayList<>();
+            loadParts(documents);
+            loadMaterials(documents);
+
+            synchronized (pendingChanges) {
+                itemSearchIndex.rebuild(documents);
+                pendingChanges.forEach(change -> change.accept(itemSearchIndex));
+                pendingChanges.clear();
+                building = false;
+            }
+            log.info("품목 검색 인덱스 구성 완료: {}건 ({}ms)",
+                    itemSearchIndex.size(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            synchronized (pendingChanges) {
+                pendingChanges.clear();
+                building = false;
+            }
+            log.error("품목 검색 인덱스 구성 실패 - DB 검색으로 동작", e);
+        }
+    }
+
+    // 부품 생성/수정/재계산 반영 (ACTIVE가 아니면 인덱스에서 제거)
+    public void partsChanged(Collection<Part> parts) {
+        List<Consumer<ItemSearchIndex>> changes = new ArrayList<>(parts.size());
+        for (Part part : parts) {
+            if (part.getStatus() == PartStatus.ACTIVE) {
+                ItemDocument document = ItemDocument.ofPart(part);
+                changes.add(index -> index.upsert(document));
+            } else {
+                Long partId = part.getId();
+                Long version = part.getVersion();
+                changes.add(index -> index.remove(ItemType.PART, partId, version));
+            }
+        }
+        applyAfterCommit(changes);
+    }
+
+    public void partChanged(Part part) {
+        partsChanged(List.of(part));
+    }
+
+    public void materialChanged(Material material) {
+        ItemDocument document = ItemDocument.ofMaterial(material);
+        applyAfterCommit(List.of(index -> index.upsert(document)));
+    }
+
+    public void materialDeleted(Material material) {
+        Long materialId = material.getId();
+        Long version = material.getVersion();
+        applyAfterCommit(List.of(index -> index.remove(ItemType.MATERIAL, materialId, version)));
+    }
+
+    public void partGroupChanged(PartGroup group) {
+        Long groupId = group.getId();
+        String groupName = group.getName();
+        Long categoryId = group.getCategory().getId();
+        String categoryName = group.getCategory().getName();
+        applyAfterCommit(List.of(index -> index.updatePartGroup(groupId, groupName, categoryId, categoryName)));
+    }
+
+    public void partCategoryChanged(PartCategory category) {
+        Long categoryId = category.getId();
+        String categoryName = category.getName();
+        applyAfterCommit(List.of(index -> index.updatePartCategory(categoryId, categoryName)));
+    }
+
+    private void loadParts(List<ItemDocument> documents) {
+        Long lastId = 0L;
+        while (true) {
+            Long fromId = lastId;
+            List<ItemDocument> chunk = new ArrayList<>(LOAD_CHUNK_SIZE);
+            Long chunkLastId = transactionTemplate.execute(status -> {
+                List<Part> parts = partRepository.findChunkWithGroupAndCategory(fromId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+                for (Part part : parts) {
+                    if (part.getStatus() == PartStatus.ACTIVE) {
+                        chunk.add(ItemDocument.ofPart(part));
+                    }
+                }
+                return parts.size() < LOAD_CHUNK_SIZE ? null : parts.get(parts.size() - 1).getId();
+            });
+            documents.addAll(chunk);
+            if (chunkLastId == null) break;
+            lastId = chunkLastId;
+        }
+    }
+
+    private void loadMaterials(List<ItemDocument> documents) {
+        Long lastId = 0L;
+        while (true) {
+            Long fromId = lastId;
+            List<ItemDocument> chunk = new ArrayList<>(LOAD_CHUNK_SIZE);
+            Long chunkLastId = transactionTemplate.execute(status -> {
+                List<Material> materials = materialRepository.findChunkWithCategory(fromId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+                for (Material material : materials) {
+                    chunk.add(ItemDocument.ofMaterial(material));
+                }
+                return materials.size() < LOAD_CHUNK_SIZE ? null : materials.get(materials.size() - 1).getId();
+            });
+            documents.addAll(chunk);
+            if (chunkLastId == null) break;
+            lastId = chunkLastId;
+        }
+    }
+
+    // 활성 트랜잭션이 있으면 커밋 후, 없으면 즉시 반영
+    private void applyAfterCommit(List<Consumer<ItemSearchIndex>> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(changes);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(changes);
+            }
+        });
+    }
+
+    private void apply(List<Consumer<ItemSearchIndex>> changes) {
+        synchronized (pendingChanges) {
+            if (building) {
+                pendingChanges.addAll(changes);
+                return;
+            }
+        }
+        changes.forEach(change -> change.accept(itemSearchIndex));
+    }
+}
@@ -2,23 +2,59 @@ package com.sampoom.backend.api.item.service;
 
 import com.sampoom.backend.api.item.dto.ItemResponseDTO;
 import com.sampoom.backend.api.item.enums.ItemType;
+import com.sampoom.backend.api.item.repository.ItemJdbcRepository;
+import com.sampoom.backend.api.item.search.ItemDocument;
+import com.sampoom.backend.api.item.search.ItemSearchHits;
+import com.sampoom.backend.api.item.search.ItemSearchIndex;
 import com.sampoom.backend.api.material.dto.MaterialResponseDTO;
 import com.sampoom.backend.api.material.service.MaterialService;
 import com.sampoom.backend.api.part.dto.PartListResponseDTO;
 import com.sampoom.backend.api.part.service.PartService;
+import com.sampoom.backend.common.dto.CursorResponseDTO;
+import com.sampoom.backend.common.dto.CursorToken;
 import com.sampoom.backend.common.dto.PageResponseDTO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 public class ItemService {
 
+    // 자동완성 최대 건수
+    private static final int MAX_SUGGEST_LIMIT = 50;
+
     private final MaterialService materialService;
     private final PartService partService;
+    private final ItemJdbcRepository itemJdbcRepository;
+    private final ItemSearchIndex itemSearchIndex;
+
+    // 품목 자동완성 (관련도 순 상위 N건)
+    public List<ItemResponseDTO> suggestItems(
+            ItemType itemType,
+            Long partCategoryId,
+            Long partGroupId,
+            Long materialCategoryId,
+            String keyword,
+            int limit
+    ) {
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+        int safeLimit = Math.min(Math.max(limit, 1), MAX_SUGGEST_LIMIT);
+
+        // 인메모리 인덱스가 준비되어 있으면 DB 조회 없이 응답
+        if (itemSearchIndex.isReady()) {
+            return itemSearchIndex.suggest(itemType, partCategoryId, partGroupId, materialCategoryId, keyword, safeLimit)
+                    .stream()
+                    .map(ItemDocument::toResponse)
+                    .toList();
+        }
+        return itemJdbcRepository.searchRanked(
+                itemType, partCategoryId, partGroupId, materialCategoryId, keyword, safeLimit);
+    }
 
     // 품목 통합 검색
     public PageResponseDTO<ItemResponseDTO> searchItems(
@@ -38,6 +74,11 @@ public class ItemService {
         System.out.println("materialCategoryId: " + materialCategoryId);
         System.out.println("keyword: " + keyword);
 
+        // 인메모리 인덱스가 준비되어 있으면 DB 조회 없이 응답 (DB 검색과 같은 코드순)
+        if (itemSearchIndex.isReady()) {
+            return searchFromIndex(itemType, partCategoryId, partGroupId, materialCategoryId, keyword, page, size);
+        }
+
         return switch (itemType) {
             case PART -> convertParts(partService.searchParts(keyword, partCategoryId, partGroupId, page, size));
             case MATERIAL -> {
@@ -48,6 +89,61 @@ public class ItemService {
         };
     }
 
+    /**
+     * 품목 통합 검색 (커서 기반, 코드순)
+     * - (code, type, id) 키셋으로 다음 페이지를 읽으므로 OFFSET/COUNT 없이 페이지당 비용이 일정
+     * - includeCount=true 일 때만 전체 개수를 함께 조회
+     */
+    public CursorResponseDTO<ItemResponseDTO> scrollItems(
+            ItemType itemType,
+            Long partCategoryId,
+            Long partGroupId,
+            Long materialCategoryId,
+            String keyword,
+            String cursor,
+            int size,
+            boolean includeCount
+    ) {
+        int safeSize = Math.min(Math.max(size, 1), 100);
+
+        List<ItemResponseDTO> rows = itemJdbcRepository.scrollAll(
+                itemType, partCategoryId, partGroupId, materialCategoryId, keyword,
+                CursorToken.decode(cursor), safeSize + 1);
+
+        Long total = includeCount
+                ? itemJdbcRepository.countAll(itemType, partCategoryId, partGroupId, materialCategoryId, keyword)
+                : null;
+
+        return CursorResponseDTO.of(rows, safeSize, ItemJdbcRepository::cursorKey, ItemResponseDTO::getId,
+                Function.identity(), total);
+    }
+
+    private PageResponseDTO<ItemResponseDTO> searchFromIndex(
+            ItemType itemType,
+            Long partCategoryId,
+            Long partGroupId,
+            Long materialCategoryId,
+            String keyword,
+            int page,
+            int size
+    ) {
+        int offset = (int) Math.min((long) page * size, Integer.MAX_VALUE);
+        ItemSearchHits hits = itemSearchIndex.search(
+                itemType, partCategoryId, partGroupId, materialCategoryId, keyword, offset, size);
+
+        List<ItemResponseDTO> content = hits.getDocuments().stream()
+                .map(ItemDocument::toResponse)
+                .toList();
+
+        return PageResponseDTO.<ItemResponseDTO>builder()
+                .content(content)
+                .totalElements(hits.getTotalElements())
+                .totalPages((int) Math.ceil((double) hits.getTotalElements() / size))
+                .currentPage(page)
+                .pageSize(size)
+                .build();
+    }
+
     private PageResponseDTO<ItemResponseDTO> convertParts(PageResponseDTO<PartListResponseDTO> dtoPage) {
         List<ItemResponseDTO> content = dtoPage.getContent().stream()
                 .map(ItemResponseDTO::ofPart)
@@ -76,7 +172,7 @@ public class ItemService {
                 .build();
     }
 
-    // ALL 타입 검색 (효율성 개선)
+    // ALL 타입 검색 (부품/자재 UNION 쿼리에서 정렬 + LIMIT/OFFSET → 어느 페이지든 정확하지만 뒤 페이지일수록 느려짐, 깊은 페이지는 scrollItems)
     private PageResponseDTO<ItemResponseDTO> searchAllItems(
             String keyword,
             Long partCategoryId,
@@ -85,50 +181,16 @@ public class ItemService {
             int page,
             int size
     ) {
-        // 각각 적절한 크기로 데이터 가져오기 (페이지 크기의 2배씩)
-        int fetchSize = size * 2;
-
-        // 부품 데이터 가져오기
-        PageResponseDTO<PartListResponseDTO> partResponse = partService.searchParts(
-                keyword, partCategoryId, partGroupId, 0, fetchSize);
-        List<ItemResponseDTO> partItems = partResponse.getContent().stream()
-                .map(ItemResponseDTO::ofPart)
-                .toList();
+        long offset = (long) page * size;
+        List<ItemResponseDTO> content = itemJdbcRepository.searchAll(
+                ItemType.ALL, partCategoryId, partGroupId, materialCategoryId, keyword, offset, size);
 
-        // 자재 데이터 가져오기
-        PageResponseDTO<MaterialResponseDTO> materialResponse = materialService.searchMaterials(
-                keyword, materialCategoryId, 0, fetchSize);
-        List<ItemResponseDTO> materialItems = materialResponse.getContent().stream()
-                .map(ItemResponseDTO::ofMaterial)
-                .toList();
-
-        // 전체 데이터 병합
-        List<ItemResponseDTO> allItems = new ArrayList<>();
-        allItems.addAll(partItems);
-        allItems.addAll(materialItems);
-
-        // 코드순으로 정렬 (이미 각각은 정렬되어 있지만 병합 후 다시 정렬 필요)
-        allItems.sort((item1, item2) -> {
-            String code1 = item1.getCode();
-            String code2 = item2.getCode();
-            if (code1 == null && code2 == null) return 0;
-            if (code1 == null) return 1;
-            if (code2 == null) return -1;
-            return code1.compareTo(code2);
-        });
-
-        // 전체 개수 계산 (실제 DB에서 가져온 총 개수)
-        long totalElements = partResponse.getTotalElements() + materialResponse.getTotalElements();
+        long totalElements = itemJdbcRepository.countAll(
+                ItemType.ALL, partCategoryId, partGroupId, materialCategoryId, keyword);
         int totalPages = (int) Math.ceil((double) totalElements / size);
 
-        // 현재 페이지에 해당하는 데이터 추출
-        int start = page * size;
-        int end = Math.min(start + size, allItems.size());
-        List<ItemResponseDTO> pageContent = start < allItems.size() ?
-                allItems.subList(start, end) : new ArrayList<>();
-
         return PageResponseDTO.<ItemResponseDTO>builder()
-                .content(pageContent)
+                .content(content)
                 .totalElements(totalElements)
                 .totalPages(totalPages)
                 .currentPage(page)
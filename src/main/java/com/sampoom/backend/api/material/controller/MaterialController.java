@@ -4,6 +4,7 @@ import com.sampoom.backend.api.material.dto.MaterialCategoryResponseDTO;
 import com.sampoom.backend.api.material.dto.MaterialRequestDTO;
 import com.sampoom.backend.api.material.dto.MaterialResponseDTO;
 import com.sampoom.backend.api.material.service.MaterialService;
+import com.sampoom.backend.common.dto.CursorResponseDTO;
 import com.sampoom.backend.common.dto.PageResponseDTO;
 import com.sampoom.backend.common.response.ApiResponse;
 import com.sampoom.backend.common.response.SuccessStatus;
@@ -97,6 +98,21 @@ public class MaterialController {
         );
     }
 
+    @Operation(summary = "원자재 검색 (커서 페이지)", description = "자재 코드순으로 커서 기반 페이지 조회합니다. 응답의 nextCursor를 cursor로 넘기면 다음 페이지를 조회합니다.")
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorResponseDTO<MaterialResponseDTO>>> scrollMaterials(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeCount) {
+
+        return ApiResponse.success(
+                SuccessStatus.OK,
+                materialService.scrollMaterials(keyword, categoryId, cursor, size, includeCount)
+        );
+    }
+
 
 //    @Operation(summary = "자재 검색", description = "자재 이름 또는 코드로 검색합니다.")
 //    @GetMapping("/search")
@@ -8,7 +8,10 @@ import lombok.NoArgsConstructor;
 
 
 @Entity
-@Table(name = "material_master")
+@Table(name = "material_master", indexes = {
+        // 통합 검색 코드순 정렬/커서 페이지(material_code > ?) 범위 조회용
+        @Index(name = "idx_material_master_code", columnList = "material_code")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
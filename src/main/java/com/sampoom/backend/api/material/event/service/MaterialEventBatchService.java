@@ -1,99 +1,117 @@
 package com.sampoom.backend.api.material.event.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sampoom.backend.api.material.entity.Material;
 import com.sampoom.backend.api.material.entity.MaterialCategory;
 import com.sampoom.backend.api.material.event.dto.MaterialEvent;
 import com.sampoom.backend.api.material.event.dto.MaterialCategoryEvent;
 import com.sampoom.backend.api.material.repository.MaterialCategoryRepository;
 import com.sampoom.backend.api.material.repository.MaterialRepository;
+import com.sampoom.backend.common.outbox.dto.OutboxChunkResult;
 import com.sampoom.backend.common.outbox.entity.Outbox;
-import com.sampoom.backend.common.outbox.repository.OutboxRepository;
-import com.sampoom.backend.common.outbox.entity.OutboxStatus;
+import com.sampoom.backend.common.outbox.service.OutboxRepublisher;
+import com.sampoom.backend.common.outbox.service.OutboxService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Material / MaterialCategory 전체 Outbox 재발행 (id 키셋 청크 단위)
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MaterialEventBatchService {
 
     private final MaterialRepository materialRepository;
-    private final OutboxRepository outboxRepository;
-    private final ObjectMapper objectMapper;
     private final MaterialCategoryRepository materialCategoryRepository;
+    private final OutboxService outboxService;
+    private final OutboxRepublisher outboxRepublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    public void publishAllMaterialEvents() {
-        List<Material> materials = materialRepository.findAll();
-        for (Material material : materials) {
-            try {
-                // 전체 MaterialEvent 객체 생성
-                MaterialEvent materialEvent = MaterialEvent.builder()
-                        .eventId(java.util.UUID.randomUUID().toString())
-                        .eventType("MaterialCreated")
-                        .version(material.getVersion())
-                        .occurredAt(java.time.OffsetDateTime.now().toString())
-                        .payload(MaterialEvent.Payload.builder()
-                                .materialId(material.getId())
-                                .materialCode(material.getMaterialCode())
-                                .name(material.getName())
-                                .materialUnit(material.getMaterialUnit())
-                                .baseQuantity(material.getBaseQuantity())
-                                .standardQuantity(material.getStandardQuantity() != null ? material.getStandardQuantity() : 1)
-                                .leadTime(material.getLeadTime())
-                                .standardCost(material.getStandardCost())
-                                .standardTotalCost(material.getStandardTotalCost())
-                                .deleted(false)
-                                .materialCategoryId(material.getMaterialCategory().getId())
-                                .build())
-                        .build();
+    // 한 청크(트랜잭션)에서 처리할 행 수
+    @Value("${outbox.republish.chunk-size:500}")
+    private int chunkSize;
 
-                // Outbox 엔티티 생성
-                Outbox outbox = Outbox.builder()
-                        .aggregateType("MATERIAL")
-                        .aggregateId(material.getId())
-                        .eventType("MaterialCreated")
-                        .payload(objectMapper.writeValueAsString(materialEvent))
-                        .version(material.getVersion())
-                        .occurredAt(OffsetDateTime.now())
-                        .status(OutboxStatus.READY)
-                        .build();
+    public long publishAllMaterialEvents() {
+        return outboxRepublisher.publishAll("Material", materialRepository.count(), chunkSize, this::publishMaterialChunk);
+    }
 
-                outboxRepository.save(outbox);
-            } catch (Exception e) {
-                // 예외 처리 (로깅 등)
-            }
-        }
+    public long publishAllMaterialCategoryEvents() {
+        return outboxRepublisher.publishAll("MaterialCategory", materialCategoryRepository.count(), chunkSize, this::publishMaterialCategoryChunk);
     }
 
-    public void publishAllMaterialCategoryEvents() {
-        List<MaterialCategory> categories = materialCategoryRepository.findAll();
+    /**
+     * lastId 이후 Material을 최대 size개 읽어 Outbox로 등록 (청크 단위 트랜잭션)
+     */
+    public OutboxChunkResult publishMaterialChunk(Long lastId, int size) {
+        return transactionTemplate.execute(status -> {
+            List<Material> materials = materialRepository.findChunkWithCategory(lastId, PageRequest.of(0, size));
+            if (materials.isEmpty()) {
+                return OutboxChunkResult.empty(lastId);
+            }
+
+            List<Outbox> outboxes = new ArrayList<>(materials.size());
+            for (Material material : materials) {
+                try {
+                    MaterialEvent.Payload payload = MaterialEvent.Payload.builder()
+                            .materialId(material.getId())
+                            .materialCode(material.getMaterialCode())
+                            .name(material.getName())
+                            .materialUnit(material.getMaterialUnit())
+                            .baseQuantity(material.getBaseQuantity())
+                            .standardQuantity(material.getStandardQuantity() != null ? material.getStandardQuantity() : 1)
+                            .leadTime(material.getLeadTime())
+                            .standardCost(material.getStandardCost())
+                            .standardTotalCost(material.getStandardTotalCost())
+                            .deleted(false)
+                            .materialCategoryId(material.getMaterialCategory() != null ? material.getMaterialCategory().getId() : null)
+                            .build();
+
+                    outboxes.add(outboxService.newOutbox(
+                            "MATERIAL", material.getId(), "MaterialCreated", material.getVersion(), payload));
+                } catch (Exception e) {
+                    log.error("❌ Material 이벤트 생성 실패 (id={}): {}", material.getId(), e.getMessage());
+                }
+            }
 
-        for (MaterialCategory category : categories) {
-            try {
-                MaterialCategoryEvent.Payload payload = MaterialCategoryEvent.Payload.builder()
-                        .categoryId(category.getId())
-                        .name(category.getName())
-                        .code(category.getCode())
-                        .deleted(false) // 필요시 실제 삭제 여부로 변경
-                        .build();
+            return outboxRepublisher.saveChunk(outboxes, materials.size(), materials.get(materials.size() - 1).getId());
+        });
+    }
 
-                Outbox outbox = Outbox.builder()
-                        .aggregateType("MATERIAL_CATEGORY")
-                        .aggregateId(category.getId())
-                        .eventType("MaterialCategoryCreated")
-                        .payload(objectMapper.writeValueAsString(payload))
-                        .version(1L)
-                        .occurredAt(OffsetDateTime.now())
-                        .status(OutboxStatus.READY)
-                        .build();
+    /**
+     * lastId 이후 MaterialCategory를 최대 size개 읽어 Outbox로 등록 (청크 단위 트랜잭션)
+     */
+    public OutboxChunkResult publishMaterialCategoryChunk(Long lastId, int size) {
+        return transactionTemplate.execute(status -> {
+            List<MaterialCategory> categories = materialCategoryRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, size));
+            if (categories.isEmpty()) {
+                return OutboxChunkResult.empty(lastId);
+            }
 
-                outboxRepository.save(outbox);
-            } catch (Exception e) {
-                // 예외 처리 (로깅 등)
+            List<Outbox> outboxes = new ArrayList<>(categories.size());
+            for (MaterialCategory category : categories) {
+                try {
+                    MaterialCategoryEvent.Payload payload = MaterialCategoryEvent.Payload.builder()
+                            .categoryId(category.getId())
+                            .name(category.getName())
+                            .code(category.getCode())
+                            .deleted(false) // 필요시 실제 삭제 여부로 변경
+                            .build();
+
+                    outboxes.add(outboxService.newOutbox(
+                            "MATERIAL_CATEGORY", category.getId(), "MaterialCategoryCreated", 1L, payload));
+                } catch (Exception e) {
+                    log.error("❌ MaterialCategory 이벤트 생성 실패 (id={}): {}", category.getId(), e.getMessage());
+                }
             }
-        }
+
+            return outboxRepublisher.saveChunk(outboxes, categories.size(), categories.get(categories.size() - 1).getId());
+        });
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,16 @@
 package com.sampoom.backend.api.material.repository;
 
 import com.sampoom.backend.api.material.entity.MaterialCategory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MaterialCategoryRepository extends JpaRepository<MaterialCategory, Long> {
 
     Optional<MaterialCategory> findByCode(String code);
+
+    // id 기준 키셋 페이징 (전체 재발행용)
+    List<MaterialCategory> findByIdGreaterThanOrderByIdAsc(Long lastId, Pageable pageable);
 }
@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+
 public interface MaterialRepository extends JpaRepository<Material,Long>, JpaSpecificationExecutor<Material> {
 
     // 카테고리별 자재 조회 (페이지네이션)
@@ -25,6 +27,11 @@ public interface MaterialRepository extends JpaRepository<Material,Long>, JpaSpe
     Page<Material> search(@Param("kw") String keyword, Pageable pageable);
 
 
-    // 카테고리 내에서 가장 최근 등록된 자재 찾기 (코드 자동 생성용)
-    Material findTopByMaterialCategoryIdOrderByIdDesc(Long categoryId);
+    // 접두어가 같은 자재 코드 (코드 카운터 초기화용)
+    @Query("SELECT m.materialCode FROM Material m WHERE m.materialCode LIKE CONCAT(:prefix, '%')")
+    List<String> findCodesByPrefix(@Param("prefix") String prefix);
+
+    // id 기준 키셋 페이징 (전체 재발행용, Material -> MaterialCategory 함께 로딩)
+    @Query("SELECT m FROM Material m LEFT JOIN FETCH m.materialCategory c WHERE m.id > :lastId ORDER BY m.id ASC")
+    List<Material> findChunkWithCategory(@Param("lastId") Long lastId, Pageable pageable);
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.sampoom.backend.api.material.service;
 
+import com.sampoom.backend.api.bom.service.BomCostPropagationService;
+import com.sampoom.backend.api.item.search.ItemSearchIndexer;
 import com.sampoom.backend.api.material.dto.MaterialCategoryResponseDTO;
 import com.sampoom.backend.api.material.dto.MaterialRequestDTO;
 import com.sampoom.backend.api.material.dto.MaterialResponseDTO;
@@ -9,22 +11,26 @@ import com.sampoom.backend.api.material.event.dto.MaterialEvent;
 import com.sampoom.backend.api.material.repository.MaterialCategoryRepository;
 import com.sampoom.backend.api.material.repository.MaterialRepository;
 import com.sampoom.backend.common.outbox.service.OutboxService;
+import com.sampoom.backend.common.dto.CursorResponseDTO;
+import com.sampoom.backend.common.dto.CursorToken;
 import com.sampoom.backend.common.dto.PageResponseDTO;
 import com.sampoom.backend.common.exception.NotFoundException;
 import com.sampoom.backend.common.response.ErrorStatus;
+import com.sampoom.backend.common.sequence.service.CodeAllocator;
+import com.sampoom.backend.common.sequence.service.CodeSpec;
 import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -34,6 +40,9 @@ public class MaterialService {
     private final MaterialRepository materialRepository;
     private final MaterialCategoryRepository categoryRepository;
     private final OutboxService outboxService;
+    private final BomCostPropagationService bomCostPropagationService;
+    private final CodeAllocator codeAllocator;
+    private final ItemSearchIndexer itemSearchIndexer;
 
     // 카테고리 목록 조회
     @Transactional(readOnly = true)
@@ -95,7 +104,7 @@ public class MaterialService {
         MaterialCategory category = categoryRepository.findById(requestDTO.getMaterialCategoryId())
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.CATEGORY_NOT_FOUND));
 
-        String materialCode = generateNextMaterialCode(category.getId());
+        String materialCode = generateNextMaterialCode(category);
 
         Material material = Material.builder()
                 .name(requestDTO.getName())
@@ -110,25 +119,19 @@ public class MaterialService {
 
         materialRepository.save(material);
 
-        // 이벤트 발행 - 전체 MaterialEvent 객체 저장
-        MaterialEvent materialEvent = MaterialEvent.builder()
-                .eventId(UUID.randomUUID().toString())
-                .eventType("MaterialCreated")
-                .version(material.getVersion())
-                .occurredAt(OffsetDateTime.now().toString())
-                .payload(MaterialEvent.Payload.builder()
-                        .materialId(material.getId())
-                        .materialCode(material.getMaterialCode())
-                        .name(material.getName())
-                        .materialUnit(material.getMaterialUnit())
-                        .baseQuantity(material.getBaseQuantity())
-                        .standardQuantity(material.getStandardQuantity() != null ? material.getStandardQuantity() : 1)
-                        .leadTime(material.getLeadTime())
-                        .deleted(false)
-                        .materialCategoryId(category.getId())
-                        .standardCost(material.getStandardCost())
-                        .standardTotalCost(material.getStandardTotalCost())
-                        .build())
+        // 이벤트 발행 - Payload만 전달 (envelope는 OutboxService에서 구성)
+        MaterialEvent.Payload payload = MaterialEvent.Payload.builder()
+                .materialId(material.getId())
+                .materialCode(material.getMaterialCode())
+                .name(material.getName())
+                .materialUnit(material.getMaterialUnit())
+                .baseQuantity(material.getBaseQuantity())
+                .standardQuantity(material.getStandardQuantity() != null ? material.getStandardQuantity() : 1)
+                .leadTime(material.getLeadTime())
+                .deleted(false)
+                .materialCategoryId(category.getId())
+                .standardCost(material.getStandardCost())
+                .standardTotalCost(material.getStandardTotalCost())
                 .build();
 
         outboxService.saveEvent(
@@ -136,8 +139,9 @@ public class MaterialService {
                 material.getId(),
                 "MaterialCreated",
                 material.getVersion(),
-                materialEvent
+                payload
         );
+        itemSearchIndexer.materialChanged(material);
 
         return new MaterialResponseDTO(material);
     }
@@ -156,10 +160,12 @@ public class MaterialService {
 
         // 카테고리가 변경 시 코드 재발급
         if (!material.getMaterialCategory().getId().equals(newCategory.getId())) {
-            String nextCode = generateNextMaterialCode(newCategory.getId());
+            String nextCode = generateNextMaterialCode(newCategory);
             material.changeCategory(newCategory, nextCode);
         }
 
+        Long previousStandardCost = material.getStandardCost();
+
         // 나머지 필드 수정
         material.updateBasicInfo(
                 requestDTO.getName(),
@@ -173,25 +179,19 @@ public class MaterialService {
         materialRepository.flush();
 
 
-        // 이벤트 발행 - 전체 MaterialEvent 객체 저장
-        MaterialEvent materialEvent = MaterialEvent.builder()
-                .eventId(UUID.randomUUID().toString())
-                .eventType("MaterialUpdated")
-                .version(material.getVersion())
-                .occurredAt(OffsetDateTime.now().toString())
-                .payload(MaterialEvent.Payload.builder()
-                        .materialId(material.getId())
-                        .materialCode(material.getMaterialCode())
-                        .name(material.getName())
-                        .materialUnit(material.getMaterialUnit())
-                        .baseQuantity(material.getBaseQuantity())
-                        .standardQuantity(material.getStandardQuantity() != null ? material.getStandardQuantity() : 1)
-                        .leadTime(material.getLeadTime())
-                        .deleted(false)
-                        .materialCategoryId(material.getMaterialCategory().getId())
-                        .standardCost(material.getStandardCost())
-                        .standardTotalCost(material.getStandardTotalCost())
-                        .build())
+        // 이벤트 발행 - Payload만 전달 (envelope는 OutboxService에서 구성)
+        MaterialEvent.Payload payload = MaterialEvent.Payload.builder()
+                .materialId(material.getId())
+                .materialCode(material.getMaterialCode())
+                .name(material.getName())
+                .materialUnit(material.getMaterialUnit())
+                .baseQuantity(material.getBaseQuantity())
+                .standardQuantity(material.getStandardQuantity() != null ? material.getStandardQuantity() : 1)
+                .leadTime(material.getLeadTime())
+                .deleted(false)
+                .materialCategoryId(material.getMaterialCategory().getId())
+                .standardCost(material.getStandardCost())
+                .standardTotalCost(material.getStandardTotalCost())
                 .build();
 
         outboxService.saveEvent(
@@ -199,8 +199,14 @@ public class MaterialService {
                 material.getId(),
                 "MaterialUpdated",
                 material.getVersion(),
-                materialEvent
+                payload
         );
+        itemSearchIndexer.materialChanged(material);
+
+        // 단가가 바뀐 경우에만 이 자재를 쓰는 BOM/Part 비용 재계산
+        if (!Objects.equals(previousStandardCost, material.getStandardCost())) {
+            bomCostPropagationService.propagateMaterialCostChange(List.of(material.getId()));
+        }
 
         return new MaterialResponseDTO(material);
     }
@@ -211,25 +217,19 @@ public class MaterialService {
         Material material = materialRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.MATERIAL_NOT_FOUND));
 
-        // 이벤트 발행 (삭제 전에) - 전체 MaterialEvent 객체 저장
-        MaterialEvent materialEvent = MaterialEvent.builder()
-                .eventId(UUID.randomUUID().toString())
-                .eventType("MaterialDeleted")
-                .version(material.getVersion())
-                .occurredAt(OffsetDateTime.now().toString())
-                .payload(MaterialEvent.Payload.builder()
-                        .materialId(material.getId())
-                        .materialCode(material.getMaterialCode())
-                        .name(material.getName())
-                        .materialUnit(material.getMaterialUnit())
-                        .baseQuantity(material.getBaseQuantity())
-                        .standardQuantity(material.getStandardQuantity() != null ? material.getStandardQuantity() : 1)
-                        .leadTime(material.getLeadTime())
-                        .deleted(true)
-                        .materialCategoryId(material.getMaterialCategory().getId())
-                        .standardCost(material.getStandardCost())
-                        .standardTotalCost(material.getStandardTotalCost())
-                        .build())
+        // 이벤트 발행 (삭제 전에) - Payload만 전달 (envelope는 OutboxService에서 구성)
+        MaterialEvent.Payload payload = MaterialEvent.Payload.builder()
+                .materialId(material.getId())
+                .materialCode(material.getMaterialCode())
+                .name(material.getName())
+                .materialUnit(material.getMaterialUnit())
+                .baseQuantity(material.getBaseQuantity())
+                .standardQuantity(material.getStandardQuantity() != null ? material.getStandardQuantity() : 1)
+                .leadTime(material.getLeadTime())
+                .deleted(true)
+                .materialCategoryId(material.getMaterialCategory().getId())
+                .standardCost(material.getStandardCost())
+                .standardTotalCost(material.getStandardTotalCost())
                 .build();
 
         outboxService.saveEvent(
@@ -237,10 +237,11 @@ public class MaterialService {
                 material.getId(),
                 "MaterialDeleted",
                 material.getVersion(),
-                materialEvent
+                payload
         );
 
         materialRepository.delete(material);
+        itemSearchIndexer.materialDeleted(material);
     }
 
     // 자재 검색
@@ -251,27 +252,10 @@ public class MaterialService {
             int page,
             int size
     ) {
-        // 자재 코드순 정렬 추가
-        PageRequest pageable = PageRequest.of(page, size, Sort.by("materialCode").ascending());
+        // 자재 코드순 정렬 (코드는 카테고리 간 중복될 수 있으므로 id로 순서 고정 → 통합 검색/검색 인덱스와 같은 순서)
+        PageRequest pageable = PageRequest.of(page, size, Sort.by("materialCode", "id").ascending());
 
-        Page<Material> materials = materialRepository.findAll((root, query, cb) -> {
-            List<Predicate> predicates = new ArrayList<>();
-
-            // keyword (대소문자 구분 없음)
-            if (keyword != null && !keyword.isBlank()) {
-                String lowerKeyword = "%" + keyword.toLowerCase() + "%";
-                Predicate nameLike = cb.like(cb.lower(root.get("name")), lowerKeyword);
-                Predicate codeLike = cb.like(cb.lower(root.get("materialCode")), lowerKeyword);
-                predicates.add(cb.or(nameLike, codeLike));
-            }
-
-            // 카테고리 필터
-            if (categoryId != null) {
-                predicates.add(cb.equal(root.get("materialCategory").get("id"), categoryId));
-            }
-
-            return cb.and(predicates.toArray(new Predicate[0]));
-        }, pageable);
+        Page<Material> materials = materialRepository.findAll(materialSearchSpec(keyword, categoryId), pageable);
 
         List<MaterialResponseDTO> dtoList = materials.getContent().stream()
                 .map(MaterialResponseDTO::new)
@@ -286,28 +270,59 @@ public class MaterialService {
                 .build();
     }
 
-
+    /**
+     * 자재 검색 (커서 기반)
+     * - (materialCode, id) 키셋으로 다음 페이지를 읽으므로 OFFSET/COUNT 없이 페이지당 비용이 일정
+     * - includeCount=true 일 때만 전체 개수를 함께 조회
+     */
     @Transactional(readOnly = true)
-    public String generateNextMaterialCode(Long categoryId) {
+    public CursorResponseDTO<MaterialResponseDTO> scrollMaterials(
+            String keyword,
+            Long categoryId,
+            String cursor,
+            int size,
+            boolean includeCount
+    ) {
+        int safeSize = Math.min(Math.max(size, 1), 100);
+        Specification<Material> spec = materialSearchSpec(keyword, categoryId);
 
-        MaterialCategory category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.CATEGORY_NOT_FOUND));
+        List<Material> rows = materialRepository.findBy(
+                spec.and(CursorToken.after(CursorToken.decode(cursor), "materialCode")),
+                query -> query.sortBy(Sort.by("materialCode", "id")).limit(safeSize + 1).all());
+
+        Long total = includeCount ? materialRepository.count(spec) : null;
+
+        return CursorResponseDTO.of(rows, safeSize, Material::getMaterialCode, Material::getId,
+                MaterialResponseDTO::new, total);
+    }
+
+    // 자재 검색 조건 (키워드 + 카테고리)
+    private static Specification<Material> materialSearchSpec(String keyword, Long categoryId) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            // keyword (대소문자 구분 없음)
+            if (keyword != null && !keyword.isBlank()) {
+                String lowerKeyword = "%" + keyword.toLowerCase() + "%";
+                Predicate nameLike = cb.like(cb.lower(root.get("name")), lowerKeyword);
+                Predicate codeLike = cb.like(cb.lower(root.get("materialCode")), lowerKeyword);
+                predicates.add(cb.or(nameLike, codeLike));
+            }
 
-        // 최신 자재 찾기
-        Material latest = materialRepository.findTopByMaterialCategoryIdOrderByIdDesc(categoryId);
-        String latestCode = (latest != null) ? latest.getMaterialCode() : null;
-
-        int nextSeq = 1;
-        if (latest != null && latest.getMaterialCode() != null) {
-            String[] parts = latest.getMaterialCode().split("-");
-            if (parts.length >= 2) {
-                try {
-                    nextSeq = Integer.parseInt(parts[1]) + 1;
-                } catch (NumberFormatException ignored) { }
+            // 카테고리 필터
+            if (categoryId != null) {
+                predicates.add(cb.equal(root.get("materialCategory").get("id"), categoryId));
             }
-        }
 
-        return String.format("%s-%04d", category.getCode(), nextSeq);
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+
+    // 자재 코드 생성: {카테고리코드}-{일련번호 4자리} (카테고리별 카운터에서 발급)
+    private String generateNextMaterialCode(MaterialCategory category) {
+        CodeSpec spec = CodeSpec.of("MATERIAL:" + category.getId(), category.getCode() + "-", 4);
+        return codeAllocator.next(spec, materialRepository::findCodesByPrefix);
     }
 
     // 자재 상세조회
@@ -2,6 +2,7 @@ package com.sampoom.backend.api.part.controller;
 
 import com.sampoom.backend.api.part.dto.*;
 import com.sampoom.backend.api.part.service.PartService;
+import com.sampoom.backend.common.dto.CursorResponseDTO;
 import com.sampoom.backend.common.dto.PageResponseDTO;
 import com.sampoom.backend.common.response.ApiResponse;
 import com.sampoom.backend.common.response.SuccessStatus;
@@ -61,6 +62,21 @@ public class PartController {
         return ApiResponse.success(SuccessStatus.PART_LIST_SUCCESS, partList);
     }
 
+    @Operation(summary = "부품 검색 (커서 페이지)", description = "부품 코드순으로 커서 기반 페이지 조회합니다. 응답의 nextCursor를 cursor로 넘기면 다음 페이지를 조회합니다.")
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorResponseDTO<PartListResponseDTO>>> scrollParts(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long groupId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeCount
+    ) {
+        CursorResponseDTO<PartListResponseDTO> result =
+                partService.scrollParts(keyword, categoryId, groupId, cursor, size, includeCount);
+        return ApiResponse.success(SuccessStatus.PART_LIST_SUCCESS, result);
+    }
+
     @Operation(summary = "부품 등록", description = "새로운 부품을 등록")
     @PostMapping
     @PreAuthorize("hasAuthority('ROLE_ADMIN')") // 관리자만 등록 가능
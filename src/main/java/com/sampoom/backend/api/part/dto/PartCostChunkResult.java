@@ -0,0 +1,16 @@
+package com.sampoom.backend.api.part.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Part 표준 비용 전체 재계산 청크 1개의 처리 결과
+ */
+@Getter
+@AllArgsConstructor
+public class PartCostChunkResult {
+
+    private int count;          // 청크에서 읽은 Part 수
+    private int changedCount;   // 표준 비용이 바뀐 Part 수
+    private Long lastId;        // 청크의 마지막 id (다음 청크는 이 id 이후부터)
+}
@@ -0,0 +1,9 @@
+package com.sampoom.backend.api.part.dto;
+
+/**
+ * Part별 비용 집계 (BOM 총비용 / 공정비용 일괄 조회용)
+ */
+public interface PartCostProjection {
+    Long getPartId();
+    Long getCost();
+}
@@ -1,6 +1,5 @@
 package com.sampoom.backend.api.part.event.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sampoom.backend.api.part.entity.Part;
 import com.sampoom.backend.api.part.entity.PartCategory;
 import com.sampoom.backend.api.part.entity.PartGroup;
@@ -10,16 +9,26 @@ import com.sampoom.backend.api.part.event.dto.PartGroupEvent;
 import com.sampoom.backend.api.part.repository.PartCategoryRepository;
 import com.sampoom.backend.api.part.repository.PartGroupRepository;
 import com.sampoom.backend.api.part.repository.PartRepository;
+import com.sampoom.backend.common.outbox.dto.OutboxChunkResult;
 import com.sampoom.backend.common.outbox.entity.Outbox;
-import com.sampoom.backend.common.outbox.repository.OutboxRepository;
-import com.sampoom.backend.common.outbox.entity.OutboxStatus;
+import com.sampoom.backend.common.outbox.service.OutboxRepublisher;
+import com.sampoom.backend.common.outbox.service.OutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Part / PartGroup / PartCategory 전체 Outbox 재발행
+ * - id 기준 키셋 페이징으로 chunkSize씩 읽어 메모리 사용량을 일정하게 유지
+ * - 청크마다 트랜잭션을 나누고 Outbox는 JDBC batch insert로 저장
+ * - 청크마다 진행 상황을 로그로 남김
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -28,126 +37,136 @@ public class PartEventBatchService {
     private final PartRepository partRepository;
     private final PartGroupRepository partGroupRepository;
     private final PartCategoryRepository partCategoryRepository;
-    private final OutboxRepository outboxRepository;
-    private final ObjectMapper objectMapper;
+    private final OutboxService outboxService;
+    private final OutboxRepublisher outboxRepublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    // 한 청크(트랜잭션)에서 처리할 행 수
+    @Value("${outbox.republish.chunk-size:500}")
+    private int chunkSize;
 
     /**
      * ✅ 모든 Part 데이터를 Outbox로 등록 (초기 발행용)
      */
-    public void publishAllPartEvents() {
-        List<Part> parts = partRepository.findAllWithGroupAndCategory();
-
-        for (Part part : parts) {
-            try {
-                var group = part.getPartGroup();
-                var category = (group != null) ? group.getCategory() : null;
-
-                // 전체 PartEvent 객체 생성
-                PartEvent partEvent = PartEvent.builder()
-                        .eventId(java.util.UUID.randomUUID().toString())
-                        .eventType("PartCreated")
-                        .version(part.getVersion())
-                        .occurredAt(java.time.OffsetDateTime.now().toString())
-                        .payload(PartEvent.Payload.builder()
-                                .partId(part.getId())
-                                .code(part.getCode())
-                                .name(part.getName())
-                                .partUnit(part.getPartUnit())
-                                .baseQuantity(part.getBaseQuantity())
-                                .standardQuantity(part.getStandardQuantity() != null ? part.getStandardQuantity() : 1)
-                                .leadTime(part.getLeadTime())
-                                .status(part.getStatus().name())
-                                .deleted(false)
-                                .groupId(group != null ? group.getId() : null)
-                                .categoryId(category != null ? category.getId() : null)
-                                .standardCost(part.getStandardCost())
-                                .standardTotalCost(part.getStandardTotalCost())
-                                .build())
-                        .build();
-
-                Outbox outbox = Outbox.builder()
-                        .aggregateType("PART")
-                        .aggregateId(part.getId())
-                        .eventType("PartCreated")
-                        .payload(objectMapper.writeValueAsString(partEvent))
-                        .version(part.getVersion())
-                        .occurredAt(OffsetDateTime.now())
-                        .status(OutboxStatus.READY)
-                        .build();
-
-                outboxRepository.save(outbox);
-            } catch (Exception e) {
-                log.error("❌ Part 이벤트 생성 실패 (id={}): {}", part.getId(), e.getMessage());
+    public long publishAllPartEvents() {
+        return outboxRepublisher.publishAll("Part", partRepository.count(), chunkSize, this::publishPartChunk);
+    }
+
+    /**
+     * ✅ 모든 그룹 이벤트 등록
+     */
+    public long publishAllPartGroupEvents() {
+        return outboxRepublisher.publishAll("PartGroup", partGroupRepository.count(), chunkSize, this::publishPartGroupChunk);
+    }
+
+    /**
+     * ✅ 모든 카테고리 이벤트 등록
+     */
+    public long publishAllPartCategoryEvents() {
+        return outboxRepublisher.publishAll("PartCategory", partCategoryRepository.count(), chunkSize, this::publishPartCategoryChunk);
+    }
+
+    /**
+     * lastId 이후 Part를 최대 size개 읽어 Outbox로 등록 (청크 단위 트랜잭션)
+     */
+    public OutboxChunkResult publishPartChunk(Long lastId, int size) {
+        return transactionTemplate.execute(status -> {
+            List<Part> parts = partRepository.findChunkWithGroupAndCategory(lastId, PageRequest.of(0, size));
+            if (parts.isEmpty()) {
+                return OutboxChunkResult.empty(lastId);
             }
-        }
 
-        log.info("✅ 모든 Part 이벤트 Outbox 등록 완료 ({}건)", parts.size());
+            List<Outbox> outboxes = new ArrayList<>(parts.size());
+            for (Part part : parts) {
+                try {
+                    var group = part.getPartGroup();
+                    var category = (group != null) ? group.getCategory() : null;
+
+                    PartEvent.Payload payload = PartEvent.Payload.builder()
+                            .partId(part.getId())
+                            .code(part.getCode())
+                            .name(part.getName())
+                            .partUnit(part.getPartUnit())
+                            .baseQuantity(part.getBaseQuantity())
+                            .standardQuantity(part.getStandardQuantity() != null ? part.getStandardQuantity() : 1)
+                            .leadTime(part.getLeadTime())
+                            .status(part.getStatus().name())
+                            .deleted(false)
+                            .groupId(group != null ? group.getId() : null)
+                            .categoryId(category != null ? category.getId() : null)
+                            .standardCost(part.getStandardCost())
+                            .standardTotalCost(part.getStandardTotalCost())
+                            .build();
+
+                    outboxes.add(outboxService.newOutbox(
+                            "PART", part.getId(), "PartCreated", part.getVersion(), payload));
+                } catch (Exception e) {
+                    log.error("❌ Part 이벤트 생성 실패 (id={}): {}", part.getId(), e.getMessage());
+                }
+            }
+
+            return outboxRepublisher.saveChunk(outboxes, parts.size(), parts.get(parts.size() - 1).getId());
+        });
     }
 
     /**
-     * ✅ 모든 그룹 이벤트 등록
+     * lastId 이후 PartGroup을 최대 size개 읽어 Outbox로 등록 (청크 단위 트랜잭션)
      */
-    public void publishAllPartGroupEvents() {
-        List<PartGroup> groups = partGroupRepository.findAll();
-
-        for (PartGroup group : groups) {
-            try {
-                PartGroupEvent.Payload payload = PartGroupEvent.Payload.builder()
-                        .groupId(group.getId())
-                        .groupName(group.getName())
-                        .groupCode(group.getCode())
-                        .categoryId(group.getCategory().getId())
-                        .build();
-
-                Outbox outbox = Outbox.builder()
-                        .aggregateType("PART_GROUP")
-                        .aggregateId(group.getId())
-                        .eventType("PartGroupCreated")
-                        .payload(objectMapper.writeValueAsString(payload))
-                        .version(group.getVersion())
-                        .occurredAt(OffsetDateTime.now())
-                        .status(OutboxStatus.READY)
-                        .build();
-
-                outboxRepository.save(outbox);
-            } catch (Exception e) {
-                log.error("❌ PartGroup 이벤트 생성 실패 (id={}): {}", group.getId(), e.getMessage());
+    public OutboxChunkResult publishPartGroupChunk(Long lastId, int size) {
+        return transactionTemplate.execute(status -> {
+            List<PartGroup> groups = partGroupRepository.findChunkWithCategory(lastId, PageRequest.of(0, size));
+            if (groups.isEmpty()) {
+                return OutboxChunkResult.empty(lastId);
             }
-        }
 
-        log.info("✅ 모든 PartGroup 이벤트 Outbox 등록 완료 ({}건)", groups.size());
+            List<Outbox> outboxes = new ArrayList<>(groups.size());
+            for (PartGroup group : groups) {
+                try {
+                    PartGroupEvent.Payload payload = PartGroupEvent.Payload.builder()
+                            .groupId(group.getId())
+                            .groupName(group.getName())
+                            .groupCode(group.getCode())
+                            .categoryId(group.getCategory().getId())
+                            .build();
+
+                    outboxes.add(outboxService.newOutbox(
+                            "PART_GROUP", group.getId(), "PartGroupCreated", group.getVersion(), payload));
+                } catch (Exception e) {
+                    log.error("❌ PartGroup 이벤트 생성 실패 (id={}): {}", group.getId(), e.getMessage());
+                }
+            }
+
+            return outboxRepublisher.saveChunk(outboxes, groups.size(), groups.get(groups.size() - 1).getId());
+        });
     }
 
     /**
-     * ✅ 모든 카테고리 이벤트 등록
+     * lastId 이후 PartCategory를 최대 size개 읽어 Outbox로 등록 (청크 단위 트랜잭션)
      */
-    public void publishAllPartCategoryEvents() {
-        List<PartCategory> categories = partCategoryRepository.findAll();
-
-        for (PartCategory category : categories) {
-            try {
-                PartCategoryEvent.Payload payload = PartCategoryEvent.Payload.builder()
-                        .categoryId(category.getId())
-                        .categoryName(category.getName())
-                        .categoryCode(category.getCode())
-                        .build();
-
-                Outbox outbox = Outbox.builder()
-                        .aggregateType("PART_CATEGORY")
-                        .aggregateId(category.getId())
-                        .eventType("PartCategoryCreated")
-                        .payload(objectMapper.writeValueAsString(payload))
-                        .version(category.getVersion())
-                        .occurredAt(OffsetDateTime.now())
-                        .status(OutboxStatus.READY)
-                        .build();
-
-                outboxRepository.save(outbox);
-            } catch (Exception e) {
-                log.error("❌ PartCategory 이벤트 생성 실패 (id={}): {}", category.getId(), e.getMessage());
+    public OutboxChunkResult publishPartCategoryChunk(Long lastId, int size) {
+        return transactionTemplate.execute(status -> {
+            List<PartCategory> categories = partCategoryRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, size));
+            if (categories.isEmpty()) {
+                return OutboxChunkResult.empty(lastId);
+            }
+
+            List<Outbox> outboxes = new ArrayList<>(categories.size());
+            for (PartCategory category : categories) {
+                try {
+                    PartCategoryEvent.Payload payload = PartCategoryEvent.Payload.builder()
+                            .categoryId(category.getId())
+                            .categoryName(category.getName())
+                            .categoryCode(category.getCode())
+                            .build();
+
+                    outboxes.add(outboxService.newOutbox(
+                            "PART_CATEGORY", category.getId(), "PartCategoryCreated", category.getVersion(), payload));
+                } catch (Exception e) {
+                    log.error("❌ PartCategory 이벤트 생성 실패 (id={}): {}", category.getId(), e.getMessage());
+                }
             }
-        }
 
-        log.info("✅ 모든 PartCategory 이벤트 Outbox 등록 완료 ({}건)", categories.size());
+            return outboxRepublisher.saveChunk(outboxes, categories.size(), categories.get(categories.size() - 1).getId());
+        });
     }
 }
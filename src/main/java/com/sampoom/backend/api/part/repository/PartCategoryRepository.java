@@ -1,12 +1,17 @@
 package com.sampoom.backend.api.part.repository;
 
 import com.sampoom.backend.api.part.entity.PartCategory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface PartCategoryRepository extends JpaRepository<PartCategory, Long> {
 
     // 코드로 카테고리를 찾기 위한 메서드
     Optional<PartCategory> findByCode(String code);
+
+    // id 기준 키셋 페이징 (전체 재발행용)
+    List<PartCategory> findByIdGreaterThanOrderByIdAsc(Long lastId, Pageable pageable);
 }
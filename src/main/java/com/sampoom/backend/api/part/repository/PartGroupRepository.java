@@ -2,8 +2,10 @@ package com.sampoom.backend.api.part.repository;
 
 import com.sampoom.backend.api.part.entity.PartCategory;
 import com.sampoom.backend.api.part.entity.PartGroup;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,6 +22,10 @@ public interface PartGroupRepository extends JpaRepository<PartGroup, Long> {
     @Query("SELECT g FROM PartGroup g JOIN FETCH g.category c")
     List<PartGroup> findAllForBootstrap();
 
+    // id 기준 키셋 페이징 (전체 재발행용)
+    @Query("SELECT g FROM PartGroup g JOIN FETCH g.category c WHERE g.id > :lastId ORDER BY g.id ASC")
+    List<PartGroup> findChunkWithCategory(@Param("lastId") Long lastId, Pageable pageable);
+
     // 특정 categoryId를 가진 그룹이 존재하는지 확인하는 메서드
     boolean existsByCategoryId(Long categoryId);
 }
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 
@@ -36,6 +37,10 @@ where p.status = :status
     // 그룹별 부품 조회
     Page<Part> findByPartGroupId(Long groupId, Pageable pageable);
 
+    // 그룹의 부품 코드 (코드 카운터 초기화용)
+    @Query("SELECT p.code FROM Part p WHERE p.partGroup.id = :groupId AND p.code LIKE CONCAT(:prefix, '%')")
+    List<String> findCodesByGroupIdAndPrefix(@Param("groupId") Long groupId, @Param("prefix") String prefix);
+
     // 가장 최근 부품 (코드 자동 생성용)
     Part findTopByPartGroupIdOrderByIdDesc(Long groupId);
 
@@ -50,6 +55,20 @@ where p.status = :status
             "LEFT JOIN FETCH g.category c")
     List<Part> findAllWithGroupAndCategory();
 
+    // 여러 Part를 그룹/카테고리와 함께 조회 (일괄 재계산용)
+    @Query("SELECT p FROM Part p " +
+            "LEFT JOIN FETCH p.partGroup g " +
+            "LEFT JOIN FETCH g.category c " +
+            "WHERE p.id IN :ids")
+    List<Part> findAllWithGroupAndCategoryByIdIn(@Param("ids") Collection<Long> ids);
+
+    // id 기준 키셋 페이징 (전체 재발행용, Part -> PartGroup -> PartCategory 함께 로딩)
+    @Query("SELECT p FROM Part p " +
+            "LEFT JOIN FETCH p.partGroup g " +
+            "LEFT JOIN FETCH g.category c " +
+            "WHERE p.id > :lastId ORDER BY p.id ASC")
+    List<Part> findChunkWithGroupAndCategory(@Param("lastId") Long lastId, Pageable pageable);
+
     // 상태별 Part 조회 (일괄 업데이트용)
     List<Part> findByStatus(PartStatus status);
 }
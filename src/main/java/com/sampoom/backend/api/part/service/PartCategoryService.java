@@ -1,5 +1,6 @@
 package com.sampoom.backend.api.part.service;
 
+import com.sampoom.backend.api.item.search.ItemSearchIndexer;
 import com.sampoom.backend.api.part.dto.PartCategoryCreateRequestDTO;
 import com.sampoom.backend.api.part.dto.PartCategoryUpdateRequestDTO;
 import com.sampoom.backend.api.part.entity.PartCategory;
@@ -21,6 +22,7 @@ public class PartCategoryService {
     private final PartCategoryRepository categoryRepository;
     private final PartGroupRepository partGroupRepository;
     private final OutboxService outboxService;
+    private final ItemSearchIndexer itemSearchIndexer;
 
     @Transactional
     public PartCategory createCategory(PartCategoryCreateRequestDTO createRequestDTO) {
@@ -74,6 +76,7 @@ public class PartCategoryService {
                 category.getVersion(),
                 payload
         );
+        itemSearchIndexer.partCategoryChanged(category);
 
         return category;
     }
@@ -1,5 +1,6 @@
 package com.sampoom.backend.api.part.service;
 
+import com.sampoom.backend.api.item.search.ItemSearchIndexer;
 import com.sampoom.backend.api.part.dto.PartGroupCreateRequestDTO;
 import com.sampoom.backend.api.part.dto.PartGroupUpdateRequestDTO;
 import com.sampoom.backend.api.part.entity.PartCategory;
@@ -21,6 +22,7 @@ public class PartGroupService {
     private final PartGroupRepository partGroupRepository;
     private final PartCategoryRepository categoryRepository;
     private final OutboxService outboxService;
+    private final ItemSearchIndexer itemSearchIndexer;
 
     @Transactional
     public PartGroup createGroup(PartGroupCreateRequestDTO createRequestDTO) {
@@ -76,6 +78,7 @@ public class PartGroupService {
                 partGroup.getVersion(),
                 payload
         );
+        itemSearchIndexer.partGroupChanged(partGroup);
 
         return partGroup;
     }
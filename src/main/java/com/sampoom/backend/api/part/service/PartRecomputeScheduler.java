@@ -0,0 +1,76 @@
+package com.sampoom.backend.api.part.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 트랜잭션 단위 Part 재계산 예약
+ * - BOM/공정 변경 시 바로 재계산하지 않고 Part id만 모아 두었다가 커밋 직전(beforeCommit)에 한 번만 재계산
+ * - 같은 요청에서 같은 Part가 여러 번 예약돼도 조회/flush/PartUpdated 이벤트는 Part당 1번
+ * - beforeCommit은 같은 트랜잭션 안에서 실행되므로 재계산 결과와 Outbox 저장이 함께 커밋/롤백됨
+ * - 활성 트랜잭션이 없으면 즉시 재계산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PartRecomputeScheduler {
+
+    private final PartService partService;
+
+    // 리드타임(공정 시간 기반) 재계산 예약
+    public void scheduleLeadTime(Long partId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            partService.recomputeParts(Set.of(partId), Set.of());
+            return;
+        }
+        currentBatch().leadTimePartIds.add(partId);
+    }
+
+    // 표준 비용(BOM 비용 + 공정 비용) 재계산 예약
+    public void scheduleStandardCost(Long partId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            partService.recomputeParts(Set.of(), Set.of(partId));
+            return;
+        }
+        currentBatch().standardCostPartIds.add(partId);
+    }
+
+    // 현재 트랜잭션에 등록된 예약 목록 (없으면 새로 등록)
+    // REQUIRES_NEW 등으로 트랜잭션이 중단되면 동기화 목록도 함께 중단되므로 트랜잭션마다 따로 모임
+    private RecomputeBatch currentBatch() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof RecomputeBatch batch && batch.owner() == this) {
+                return batch;
+            }
+        }
+
+        RecomputeBatch batch = new RecomputeBatch();
+        TransactionSynchronizationManager.registerSynchronization(batch);
+        return batch;
+    }
+
+    private class RecomputeBatch implements TransactionSynchronization {
+
+        private final Set<Long> leadTimePartIds = new LinkedHashSet<>();
+        private final Set<Long> standardCostPartIds = new LinkedHashSet<>();
+
+        private PartRecomputeScheduler owner() {
+            return PartRecomputeScheduler.this;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (readOnly) {
+                return;
+            }
+            log.debug("Part 재계산 실행: 리드타임={}, 표준 비용={}", leadTimePartIds, standardCostPartIds);
+            partService.recomputeParts(leadTimePartIds, standardCostPartIds);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.sampoom.backend.api.part.service;
 
+import com.sampoom.backend.api.item.search.ItemSearchIndexer;
 import com.sampoom.backend.api.part.dto.*;
 import com.sampoom.backend.api.part.entity.*;
 import com.sampoom.backend.api.part.event.dto.PartEvent;
+import com.sampoom.backend.common.outbox.dto.OutboxEventRequest;
 import com.sampoom.backend.common.outbox.service.OutboxService;
 import com.sampoom.backend.api.part.repository.PartCategoryRepository;
 import com.sampoom.backend.api.part.repository.PartGroupRepository;
@@ -11,22 +13,33 @@ import com.sampoom.backend.api.process.entity.Process;
 import com.sampoom.backend.api.process.repository.ProcessRepository;
 import com.sampoom.backend.api.bom.entity.Bom;
 import com.sampoom.backend.api.bom.repository.BomRepository;
+import com.sampoom.backend.common.dto.CursorResponseDTO;
+import com.sampoom.backend.common.dto.CursorToken;
 import com.sampoom.backend.common.dto.PageResponseDTO;
 import com.sampoom.backend.common.exception.NotFoundException;
 import com.sampoom.backend.common.response.ErrorStatus;
+import com.sampoom.backend.common.sequence.service.CodeAllocator;
+import com.sampoom.backend.common.sequence.service.CodeSpec;
 import jakarta.persistence.OptimisticLockException;
 import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 
@@ -41,6 +54,12 @@ public class PartService {
     private final OutboxService outboxService;
     private final ProcessRepository processRepository;
     private final BomRepository bomRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CodeAllocator codeAllocator;
+    private final ItemSearchIndexer itemSearchIndexer;
+
+    // 전체 재계산 시 한 트랜잭션에서 처리할 Part 수
+    private static final int RECALCULATE_CHUNK_SIZE = 1000;
 
     // 카테고리 목록 조회
     @Transactional
@@ -109,80 +128,48 @@ public class PartService {
         PartGroup partGroup = partGroupRepository.findById(partCreateRequestDTO.getGroupId())
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.GROUP_NOT_FOUND));
 
-        // 코드 자동 생성 (처음 1회)
-        String nextCode = generateNextPartCode(partGroup.getId());
-
-        // 재시도 로직
-        int attempts = 0;
-        final int MAX_ATTEMPTS = 3;  // 최대 3번 재시도
-        Part savedPart;
-
-        while (true) {
-
-            try {
-                // 부품 생성 시도
-                Part newPart = new Part(
-                        nextCode,
-                        partCreateRequestDTO.getName(),
-                        partGroup,
-                        partCreateRequestDTO.getPartUnit(),
-                        partCreateRequestDTO.getBaseQuantity(),
-                        partCreateRequestDTO.getStandardQuantity() != null ?
-                            partCreateRequestDTO.getStandardQuantity() : 1
-                );
-
-                // 표준단가 자동 계산
-
-                savedPart = partRepository.saveAndFlush(newPart);
-                break;
-
-            } catch (DataIntegrityViolationException e) {
-                // DataIntegrityViolationException 감지 (코드 중복 의심)
-                log.warn("DataIntegrityViolationException 감지 (코드 중복 가능성): {}", e.getMessage());
-
-                if (++attempts >= MAX_ATTEMPTS) {
-                    log.error("부품 코드 생성 3회 재시도 실패 (partGroup: {}).", partGroup.getId());
-                    // 3번 다 실패하면 그냥 예외를 던져서 500 에러 처리
-                    throw new RuntimeException("부품 코드 생성에 실패했습니다.", e);
-                }
-
-                // 중복이었으므로, 새 코드를 다시 받아옴
-                log.info("부품 코드 중복 감지, 새 코드 생성 재시도... (시도: {}/{} )", attempts, MAX_ATTEMPTS);
-                nextCode = generateNextPartCode(partGroup.getId());
-            }
-        }
+        // 코드 자동 생성 (그룹별 카운터에서 발급하므로 동시 등록에도 중복 없음)
+        String nextCode = codeAllocator.next(partCodeSpec(partGroup),
+                prefix -> partRepository.findCodesByGroupIdAndPrefix(partGroup.getId(), prefix));
+
+        Part newPart = new Part(
+                nextCode,
+                partCreateRequestDTO.getName(),
+                partGroup,
+                partCreateRequestDTO.getPartUnit(),
+                partCreateRequestDTO.getBaseQuantity(),
+                partCreateRequestDTO.getStandardQuantity() != null ?
+                    partCreateRequestDTO.getStandardQuantity() : 1
+        );
 
-        // 전체 PartEvent 객체 생성
-        PartEvent partEvent = PartEvent.builder()
-                .eventId(java.util.UUID.randomUUID().toString())
-                .eventType("PartCreated")
-                .version(savedPart.getVersion())
-                .occurredAt(java.time.OffsetDateTime.now().toString())
-                .payload(PartEvent.Payload.builder()
-                        .partId(savedPart.getId())
-                        .code(savedPart.getCode())
-                        .name(savedPart.getName())
-                        .partUnit(savedPart.getPartUnit())
-                        .baseQuantity(savedPart.getBaseQuantity())
-                        .standardQuantity(savedPart.getStandardQuantity())
-                        .leadTime(savedPart.getLeadTime())
-                        .status(savedPart.getStatus().name())
-                        .deleted(false)
-                        .groupId(partGroup.getId())
-                        .categoryId(partGroup.getCategory().getId())
-                        .standardCost(savedPart.getStandardCost())
-                        .standardTotalCost(savedPart.getStandardTotalCost())
-                        .build())
+        Part savedPart = partRepository.saveAndFlush(newPart);
+
+        // 이벤트 Payload 생성 (envelope는 OutboxService에서 구성)
+        PartEvent.Payload payload = PartEvent.Payload.builder()
+                .partId(savedPart.getId())
+                .code(savedPart.getCode())
+                .name(savedPart.getName())
+                .partUnit(savedPart.getPartUnit())
+                .baseQuantity(savedPart.getBaseQuantity())
+                .standardQuantity(savedPart.getStandardQuantity())
+                .leadTime(savedPart.getLeadTime())
+                .status(savedPart.getStatus().name())
+                .deleted(false)
+                .groupId(partGroup.getId())
+                .categoryId(partGroup.getCategory().getId())
+                .standardCost(savedPart.getStandardCost())
+                .standardTotalCost(savedPart.getStandardTotalCost())
                 .build();
 
-        // OutboxService 호출 (전체 이벤트 객체)
+        // OutboxService 호출
         outboxService.saveEvent(
                 "PART",
                 savedPart.getId(),
                 "PartCreated",
                 savedPart.getVersion(),
-                partEvent.getPayload()
+                payload
         );
+        itemSearchIndexer.partChanged(savedPart);
 
         return new PartListResponseDTO(savedPart);
     }
@@ -204,7 +191,8 @@ public class PartService {
                 part.changeGroup(newGroup); // 엔티티에 추가할 메서드
 
                 // 코드 재생성 (개선된 버전 사용)
-                String newCode = generateNextPartCode(newGroup.getId());
+                String newCode = codeAllocator.next(partCodeSpec(newGroup),
+                        prefix -> partRepository.findCodesByGroupIdAndPrefix(newGroup.getId(), prefix));
                 part.changeCode(newCode);
             }
 
@@ -214,27 +202,21 @@ public class PartService {
 
             partRepository.flush();
 
-            // 전체 PartEvent 객체 생성
-            PartEvent partEvent = PartEvent.builder()
-                    .eventId(java.util.UUID.randomUUID().toString())
-                    .eventType("PartUpdated")
-                    .version(part.getVersion())
-                    .occurredAt(java.time.OffsetDateTime.now().toString())
-                    .payload(PartEvent.Payload.builder()
-                            .partId(part.getId())
-                            .code(part.getCode())
-                            .name(part.getName())
-                            .partUnit(part.getPartUnit())
-                            .baseQuantity(part.getBaseQuantity())
-                            .standardQuantity(part.getStandardQuantity() != null ? part.getStandardQuantity() : 1)
-                            .leadTime(part.getLeadTime())
-                            .status(part.getStatus().name())
-                            .deleted(false)
-                            .groupId(part.getPartGroup().getId())
-                            .categoryId(part.getPartGroup().getCategory().getId())
-                            .standardCost(part.getStandardCost())
-                            .standardTotalCost(part.getStandardTotalCost())
-                            .build())
+            // 이벤트 Payload 생성 (envelope는 OutboxService에서 구성)
+            PartEvent.Payload payload = PartEvent.Payload.builder()
+                    .partId(part.getId())
+                    .code(part.getCode())
+                    .name(part.getName())
+                    .partUnit(part.getPartUnit())
+                    .baseQuantity(part.getBaseQuantity())
+                    .standardQuantity(part.getStandardQuantity() != null ? part.getStandardQuantity() : 1)
+                    .leadTime(part.getLeadTime())
+                    .status(part.getStatus().name())
+                    .deleted(false)
+                    .groupId(part.getPartGroup().getId())
+                    .categoryId(part.getPartGroup().getCategory().getId())
+                    .standardCost(part.getStandardCost())
+                    .standardTotalCost(part.getStandardTotalCost())
                     .build();
 
             // OutboxService 호출
@@ -243,8 +225,9 @@ public class PartService {
                     part.getId(),
                     "PartUpdated",
                     part.getVersion(),
-                    partEvent.getPayload()
+                    payload
             );
+            itemSearchIndexer.partChanged(part);
 
             return new PartListResponseDTO(part);
 
@@ -267,37 +250,32 @@ public class PartService {
 
         partRepository.flush();
 
-        // 전체 PartEvent 객체 생성
-        PartEvent partEvent = PartEvent.builder()
-                .eventId(java.util.UUID.randomUUID().toString())
-                .eventType("PartDeleted")
-                .version(part.getVersion())
-                .occurredAt(java.time.OffsetDateTime.now().toString())
-                .payload(PartEvent.Payload.builder()
-                        .partId(part.getId())
-                        .code(part.getCode())
-                        .name(part.getName())
-                        .partUnit(part.getPartUnit())
-                        .baseQuantity(part.getBaseQuantity())
-                        .standardQuantity(part.getStandardQuantity() != null ? part.getStandardQuantity() : 1)
-                        .leadTime(part.getLeadTime())
-                        .status(part.getStatus().name()) // "DISCONTINUED"
-                        .deleted(true)
-                        .groupId(part.getPartGroup().getId())
-                        .categoryId(part.getPartGroup().getCategory().getId())
-                        .standardCost(part.getStandardCost())
-                        .standardTotalCost(part.getStandardTotalCost())
-                        .build())
+        // 이벤트 Payload 생성 (envelope는 OutboxService에서 구성)
+        PartEvent.Payload payload = PartEvent.Payload.builder()
+                .partId(part.getId())
+                .code(part.getCode())
+                .name(part.getName())
+                .partUnit(part.getPartUnit())
+                .baseQuantity(part.getBaseQuantity())
+                .standardQuantity(part.getStandardQuantity() != null ? part.getStandardQuantity() : 1)
+                .leadTime(part.getLeadTime())
+                .status(part.getStatus().name()) // "DISCONTINUED"
+                .deleted(true)
+                .groupId(part.getPartGroup().getId())
+                .categoryId(part.getPartGroup().getCategory().getId())
+                .standardCost(part.getStandardCost())
+                .standardTotalCost(part.getStandardTotalCost())
                 .build();
 
-        // OutboxService 호출 (전체 이벤트 객체)
+        // OutboxService 호출
         outboxService.saveEvent(
                 "PART",
                 part.getId(),
                 "PartDeleted",
                 part.getVersion(),
-                partEvent.getPayload()
+                payload
         );
+        itemSearchIndexer.partChanged(part);
     }
 
     // 부품 검색
@@ -312,7 +290,50 @@ public class PartService {
         // 코드순 정렬 추가
         PageRequest pageable = PageRequest.of(page, size, Sort.by("code").ascending());
 
-        Page<Part> parts = partRepository.findAll((root, query, cb) -> {
+        Page<Part> parts = partRepository.findAll(partSearchSpec(keyword, categoryId, groupId), pageable);
+
+        List<PartListResponseDTO> dtoList = parts.getContent().stream()
+                .map(PartListResponseDTO::new)
+                .toList();
+
+        return PageResponseDTO.<PartListResponseDTO>builder()
+                .content(dtoList)
+                .totalElements(parts.getTotalElements())
+                .totalPages(parts.getTotalPages())
+                .currentPage(page)
+                .pageSize(size)
+                .build();
+    }
+
+    /**
+     * 부품 검색 (커서 기반)
+     * - (code, id) 키셋으로 다음 페이지를 읽으므로 OFFSET/COUNT 없이 페이지당 비용이 일정
+     * - includeCount=true 일 때만 전체 개수를 함께 조회
+     */
+    @Transactional(readOnly = true)
+    public CursorResponseDTO<PartListResponseDTO> scrollParts(
+            String keyword,
+            Long categoryId,
+            Long groupId,
+            String cursor,
+            int size,
+            boolean includeCount
+    ) {
+        int safeSize = Math.min(Math.max(size, 1), 100);
+        Specification<Part> spec = partSearchSpec(keyword, categoryId, groupId);
+
+        List<Part> rows = partRepository.findBy(
+                spec.and(CursorToken.after(CursorToken.decode(cursor), "code")),
+                query -> query.sortBy(Sort.by("code", "id")).limit(safeSize + 1).all());
+
+        Long total = includeCount ? partRepository.count(spec) : null;
+
+        return CursorResponseDTO.of(rows, safeSize, Part::getCode, Part::getId, PartListResponseDTO::new, total);
+    }
+
+    // 부품 검색 조건 (ACTIVE + 키워드 + 카테고리/그룹)
+    private static Specification<Part> partSearchSpec(String keyword, Long categoryId, Long groupId) {
+        return (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
 
             // 상태 필터
@@ -337,71 +358,17 @@ public class PartService {
             }
 
             return cb.and(predicates.toArray(new Predicate[0]));
-        }, pageable);
-
-        List<PartListResponseDTO> dtoList = parts.getContent().stream()
-                .map(PartListResponseDTO::new)
-                .toList();
-
-        return PageResponseDTO.<PartListResponseDTO>builder()
-                .content(dtoList)
-                .totalElements(parts.getTotalElements())
-                .totalPages(parts.getTotalPages())
-                .currentPage(page)
-                .pageSize(size)
-                .build();
+        };
     }
 
-
-    // 코드 생성 (개선된 버전)
-    @Transactional(readOnly = true)
-    public String generateNextPartCode(Long groupId) {
-        PartGroup group = partGroupRepository.findById(groupId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.GROUP_NOT_FOUND));
-
-        String categoryCode = group.getCategory().getCode(); // ENG, TRM 등
-        String groupCode = String.format("%02d", group.getId()); // 그룹 ID 두 자리로 포맷
-
-        // 해당 그룹의 모든 부품 코드를 가져와서 최대 시퀀스 번호 찾기
-        String codePrefix = categoryCode + "-" + groupCode + "-";
-
-        // Repository에서 해당 그룹의 모든 부품을 가져와서 직접 최대값 계산
-        Page<Part> parts = partRepository.findByPartGroupId(groupId, PageRequest.of(0, Integer.MAX_VALUE));
-
-        int maxSeq = 0;
-        for (Part part : parts.getContent()) {
-            if (part.getCode() != null && part.getCode().startsWith(codePrefix)) {
-                String[] codeParts = part.getCode().split("-");
-                if (codeParts.length == 3) {
-                    try {
-                        int seq = Integer.parseInt(codeParts[2]);
-                        maxSeq = Math.max(maxSeq, seq);
-                    } catch (NumberFormatException ignored) {
-                        // 잘못된 형식의 코드는 무시
-                    }
-                }
-            }
-        }
-
-        int nextSeq = maxSeq + 1;
-        String newCode = String.format("%s-%s-%03d", categoryCode, groupCode, nextSeq);
-
-        log.debug("그룹 {} 코드 생성: 현재 최대 시퀀스={}, 새 코드={}", groupId, maxSeq, newCode);
-
-        return newCode;
+    // 부품 코드 형식: {카테고리코드}-{그룹ID 2자리}-{일련번호 3자리} (예: ENG-01-007), 그룹별 카운터
+    private static CodeSpec partCodeSpec(PartGroup group) {
+        String prefix = group.getCategory().getCode() + "-" + String.format("%02d", group.getId()) + "-";
+        return CodeSpec.of("PART:" + group.getId(), prefix, 3);
     }
 
-    @Transactional
-    public void updateLeadTimeFromProcess(Long partId) {
-
-        Part part = partRepository.findById(partId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.PART_NOT_FOUND));
-
-        // Process Master 조회
-        Process process = processRepository.findByPartId(partId)
-                .orElse(null);
-
-        // Lead Time 계산 (일 단위 + 배송시간 2일)
+    // Lead Time 계산 (일 단위 + 배송시간 2일)
+    private Integer calculateLeadTime(Part part, Process process) {
         Integer newLeadTime = 2; // 기본 배송시간 2일
         if (process != null) {
             int totalMinutes = process.getTotalStepMinutes();
@@ -413,78 +380,168 @@ public class PartService {
             log.debug("Part [{}] leadTime 계산: 공정시간={}분({}일) + 배송시간=2일 = 총 {}일",
                      part.getCode(), totalMinutes, processLeadTimeDays, newLeadTime);
         }
+        return newLeadTime;
+    }
 
-        // Part 엔티티 업데이트 및 이벤트 발행 (변경이 있을 경우에만)
-        if (part.getLeadTime() == null || !part.getLeadTime().equals(newLeadTime)) {
-            part.setLeadTime(newLeadTime);
+    /**
+     * 요청 동안 모아 둔 Part의 리드타임/표준 비용을 한 번에 재계산 (PartRecomputeScheduler가 커밋 직전에 호출)
+     * - Part/공정은 IN 조회 한 번씩, 영속성 컨텍스트에 이미 있는 엔티티는 그대로 재사용
+     * - 리드타임과 표준 비용이 모두 바뀌어도 Part당 flush 1번, PartUpdated 이벤트 1건
+     */
+    @Transactional
+    public void recomputeParts(Collection<Long> leadTimePartIds, Collection<Long> standardCostPartIds) {
+        Set<Long> partIds = new LinkedHashSet<>(leadTimePartIds);
+        partIds.addAll(standardCostPartIds);
+        if (partIds.isEmpty()) {
+            return;
+        }
 
-            // DB에 변경사항 반영 (@Version 증가)
-            partRepository.flush();
+        List<Part> parts = partRepository.findAllWithGroupAndCategoryByIdIn(partIds);
+        Set<Part> changed = new LinkedHashSet<>();
 
-            // Kafka 이벤트 발행
-            publishPartUpdatedEvent(part);
+        if (!leadTimePartIds.isEmpty()) {
+            Map<Long, Process> processByPartId = new HashMap<>();
+            for (Process process : processRepository.findByPartIdIn(leadTimePartIds)) {
+                processByPartId.putIfAbsent(process.getPart().getId(), process);
+            }
+
+            for (Part part : parts) {
+                if (!leadTimePartIds.contains(part.getId())) {
+                    continue;
+                }
+                Integer newLeadTime = calculateLeadTime(part, processByPartId.get(part.getId()));
+                if (!newLeadTime.equals(part.getLeadTime())) {
+                    part.setLeadTime(newLeadTime);
+                    changed.add(part);
+                }
+            }
         }
+
+        if (!standardCostPartIds.isEmpty()) {
+            changed.addAll(applyStandardCosts(parts.stream()
+                    .filter(part -> standardCostPartIds.contains(part.getId()))
+                    .toList()));
+        }
+
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        // DB에 변경사항 반영 (@Version 증가 후 이벤트 생성)
+        partRepository.flush();
+
+        outboxService.saveEvents(changed.stream()
+                .map(this::toPartUpdatedEvent)
+                .toList());
+        itemSearchIndexer.partsChanged(changed);
+
+        log.debug("Part 재계산: 리드타임 대상={}건, 표준 비용 대상={}건, 변경={}건",
+                leadTimePartIds.size(), standardCostPartIds.size(), changed.size());
     }
 
     // 이벤트 발행 헬퍼 메서드
     @Transactional(readOnly = true)
     public void publishPartUpdatedEvent(Part part) {
-        // 전체 PartEvent 객체 생성
-        PartEvent partEvent = PartEvent.builder()
-                .eventId(java.util.UUID.randomUUID().toString())
-                .eventType("PartUpdated")
-                .version(part.getVersion())
-                .occurredAt(java.time.OffsetDateTime.now().toString())
-                .payload(PartEvent.Payload.builder()
-                        .partId(part.getId())
-                        .code(part.getCode())
-                        .name(part.getName())
-                        .partUnit(part.getPartUnit())
-                        .baseQuantity(part.getBaseQuantity())
-                        .standardQuantity(part.getStandardQuantity() != null ? part.getStandardQuantity() : 1)
-                        .leadTime(part.getLeadTime())
-                        .status(part.getStatus().name())
-                        .deleted(part.getStatus() == PartStatus.DISCONTINUED)
-                        .groupId(part.getPartGroup().getId())
-                        .categoryId(part.getPartGroup().getCategory().getId())
-                        .standardCost(part.getStandardCost())
-                        .standardTotalCost(part.getStandardTotalCost())
-                        .build())
-                .build();
-
         outboxService.saveEvent(
                 "PART",
                 part.getId(),
                 "PartUpdated",
                 part.getVersion(),
-                partEvent.getPayload()
+                buildPartUpdatedPayload(part)
         );
+        itemSearchIndexer.partChanged(part);
+    }
+
+    // PartUpdated 이벤트 요청 생성 (여러 건을 saveEvents로 한 번에 저장할 때 사용)
+    public OutboxEventRequest toPartUpdatedEvent(Part part) {
+        return OutboxEventRequest.builder()
+                .aggregateType("PART")
+                .aggregateId(part.getId())
+                .eventType("PartUpdated")
+                .version(part.getVersion())
+                .payload(buildPartUpdatedPayload(part))
+                .build();
+    }
+
+    private PartEvent.Payload buildPartUpdatedPayload(Part part) {
+        return PartEvent.Payload.builder()
+                .partId(part.getId())
+                .code(part.getCode())
+                .name(part.getName())
+                .partUnit(part.getPartUnit())
+                .baseQuantity(part.getBaseQuantity())
+                .standardQuantity(part.getStandardQuantity() != null ? part.getStandardQuantity() : 1)
+                .leadTime(part.getLeadTime())
+                .status(part.getStatus().name())
+                .deleted(part.getStatus() == PartStatus.DISCONTINUED)
+                .groupId(part.getPartGroup().getId())
+                .categoryId(part.getPartGroup().getCategory().getId())
+                .standardCost(part.getStandardCost())
+                .standardTotalCost(part.getStandardTotalCost())
+                .build();
     }
 
-    // Part의 표준 비용을 BOM 비용과 Process 비용을 합쳐서 자동 계산하는 메서드
+    /**
+     * 여러 Part의 표준 비용을 BOM 비용 + 공정 비용으로 한 번에 다시 계산
+     * - Part/BOM/Process를 IN 조회로 묶어 가져오므로 Part 수와 관계없이 쿼리 수가 일정
+     * - 비용이 바뀐 Part만 PartUpdated 이벤트 요청으로 반환 (호출한 쪽에서 saveEvents로 한 번에 저장)
+     */
     @Transactional
-    public void updateStandardCostFromBomAndProcess(Long partId) {
-        Part part = partRepository.findById(partId)
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.PART_NOT_FOUND));
+    public List<OutboxEventRequest> recalculateStandardCosts(Collection<Long> partIds) {
+        if (partIds.isEmpty()) {
+            return List.of();
+        }
 
-        // BOM 비용 조회
-        Long bomCost = getBomCostByPartId(partId);
+        List<Part> parts = partRepository.findAllWithGroupAndCategoryByIdIn(partIds);
+        List<Part> changed = applyStandardCosts(parts);
 
-        // Process 비용 조회
-        Long processCost = getProcessCostByPartId(partId);
+        if (changed.isEmpty()) {
+            return List.of();
+        }
 
-        // 기존 표준 비용과 비교해서 변경이 있을 경우에만 업데이트
-        Long newStandardCost = (bomCost != null ? bomCost : 0L) + (processCost != null ? processCost : 0L);
+        // DB에 변경사항 반영 (@Version 증가 후 이벤트 생성)
+        partRepository.flush();
 
-        if (part.getStandardCost() == null || !part.getStandardCost().equals(newStandardCost)) {
-            part.calculateStandardCost(bomCost, processCost);
+        log.debug("Part 표준 비용 일괄 재계산: 대상={}건, 변경={}건", parts.size(), changed.size());
 
-            // DB에 변경사항 반영
-            partRepository.flush();
+        // 이벤트는 호출한 쪽에서 저장하므로 검색 인덱스도 커밋 후 반영
+        itemSearchIndexer.partsChanged(changed);
+
+        return changed.stream()
+                .map(this::toPartUpdatedEvent)
+                .toList();
+    }
 
-            // Kafka 이벤트 발행
-            publishPartUpdatedEvent(part);
+    // BOM/공정 비용을 Part id 기준으로 한 번씩 집계 조회(쿼리 2번)해 표준 비용을 계산하고, 값이 바뀐 Part만 반환
+    private List<Part> applyStandardCosts(List<Part> parts) {
+        if (parts.isEmpty()) {
+            return List.of();
         }
+
+        List<Long> partIds = parts.stream().map(Part::getId).toList();
+
+        Map<Long, Long> bomCostByPartId = new HashMap<>();
+        for (PartCostProjection cost : bomRepository.findTotalCostsByPartIdIn(partIds)) {
+            bomCostByPartId.put(cost.getPartId(), cost.getCost());
+        }
+        Map<Long, Long> processCostByPartId = new HashMap<>();
+        for (PartCostProjection cost : processRepository.findProcessCostsByPartIdIn(partIds)) {
+            processCostByPartId.putIfAbsent(cost.getPartId(), cost.getCost());
+        }
+
+        List<Part> changed = new ArrayList<>();
+        for (Part part : parts) {
+            Long beforeCost = part.getStandardCost();
+            Long beforeTotalCost = part.getStandardTotalCost();
+
+            part.calculateStandardCost(bomCostByPartId.get(part.getId()), processCostByPartId.get(part.getId()));
+
+            if (!Objects.equals(beforeCost, part.getStandardCost())
+                    || !Objects.equals(beforeTotalCost, part.getStandardTotalCost())) {
+                changed.add(part);
+            }
+        }
+        return changed;
     }
 
     // BOM 비용 조회 헬퍼 메서드
@@ -513,16 +570,51 @@ public class PartService {
   
     /**
      * 모든 Part의 standard_total_cost 재계산
+     * - id 키셋 청크 단위로 읽고, 청크마다 BOM/공정 비용을 집계 쿼리 2번으로 가져와 메모리에서 계산
+     * - 청크마다 flush + 커밋하므로 한 번에 잡는 트랜잭션/영속성 컨텍스트 크기가 제한됨
+     * - 표준 비용이 바뀐 Part만 PartUpdated 이벤트 발행
+     * @return 표준 비용이 바뀐 Part 수
      */
-    @Transactional
-    public void recalculateAllPartStandardCosts() {
-        List<Part> parts = partRepository.findAll();
-        for (Part part : parts) {
-            Long bomCost = getBomCostByPartId(part.getId());
-            Long processCost = getProcessCostByPartId(part.getId());
-            part.calculateStandardCost(bomCost, processCost);
+    public long recalculateAllPartStandardCosts() {
+        long total = partRepository.count();
+        long processed = 0;
+        long changed = 0;
+        Long lastId = 0L;
+
+        while (true) {
+            Long fromId = lastId;
+            PartCostChunkResult result = transactionTemplate.execute(status -> recalculatePartStandardCostChunk(fromId));
+            if (result.getCount() == 0) break;
+
+            processed += result.getCount();
+            changed += result.getChangedCount();
+            lastId = result.getLastId();
+            log.info("Part 표준 비용 재계산 진행: {}/{}건, 변경={}건 (lastId={})", processed, total, changed, lastId);
+
+            if (result.getCount() < RECALCULATE_CHUNK_SIZE) break;
         }
-        partRepository.saveAll(parts);
+
+        log.info("Part 표준 비용 전체 재계산 완료: 대상={}건, 변경={}건", processed, changed);
+        return changed;
+    }
+
+    private PartCostChunkResult recalculatePartStandardCostChunk(Long lastId) {
+        List<Part> parts = partRepository.findChunkWithGroupAndCategory(lastId, PageRequest.of(0, RECALCULATE_CHUNK_SIZE));
+        if (parts.isEmpty()) {
+            return new PartCostChunkResult(0, 0, lastId);
+        }
+
+        List<Part> changed = applyStandardCosts(parts);
+        if (!changed.isEmpty()) {
+            // DB에 변경사항 반영 (@Version 증가 후 이벤트 생성)
+            partRepository.flush();
+            outboxService.saveEvents(changed.stream()
+                    .map(this::toPartUpdatedEvent)
+                    .toList());
+            itemSearchIndexer.partsChanged(changed);
+        }
+
+        return new PartCostChunkResult(parts.size(), changed.size(), parts.get(parts.size() - 1).getId());
     }
 
     /**
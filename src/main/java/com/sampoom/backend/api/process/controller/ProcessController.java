@@ -3,6 +3,7 @@ package com.sampoom.backend.api.process.controller;
 import com.sampoom.backend.api.process.dto.*;
 import com.sampoom.backend.api.process.entity.ProcessStatus;
 import com.sampoom.backend.api.process.service.ProcessService;
+import com.sampoom.backend.common.dto.CursorResponseDTO;
 import com.sampoom.backend.common.response.ApiResponse;
 import com.sampoom.backend.common.response.PageResponseDto;
 import com.sampoom.backend.common.response.PageResponseDto;
@@ -47,6 +48,22 @@ public class ProcessController {
         return ApiResponse.success(SuccessStatus.OK, response);
     }
 
+    @Operation(summary = "공정 검색 (커서 페이지)", description = "공정 코드순으로 커서 기반 페이지 조회합니다. 응답의 nextCursor를 cursor로 넘기면 다음 페이지를 조회합니다.")
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorResponseDTO<ProcessResponseDTO>>> scroll(
+            @RequestParam(value = "query", required = false) String q,
+            @RequestParam(value = "status", required = false) ProcessStatus status,
+            @RequestParam(value = "categoryId", required = false) Long categoryId,
+            @RequestParam(value = "groupId", required = false) Long groupId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "includeCount", defaultValue = "false") boolean includeCount
+    ) {
+        CursorResponseDTO<ProcessResponseDTO> response =
+                processService.scroll(q, status, categoryId, groupId, cursor, size, includeCount);
+        return ApiResponse.success(SuccessStatus.OK, response);
+    }
+
 
     @Operation(summary = "공정 상세 조회", description = "공정 ID로 공정의 상세 정보를 조회합니다.")
     @GetMapping("/{id}")
@@ -6,7 +6,9 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "process_step")
+@Table(name = "process_step", indexes = {
+        @Index(name = "idx_process_step_work_center_id", columnList = "work_center_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
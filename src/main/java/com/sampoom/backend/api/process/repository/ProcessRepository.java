@@ -1,5 +1,6 @@
 package com.sampoom.backend.api.process.repository;
 
+import com.sampoom.backend.api.part.dto.PartCostProjection;
 import com.sampoom.backend.api.process.entity.Process;
 import com.sampoom.backend.api.process.entity.ProcessStatus;
 import org.springframework.data.domain.Page;
@@ -8,12 +9,14 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ProcessRepository extends JpaRepository<Process, Long> {
-    // 코드 자동 생성을 위한 메서드 추가
-    @Query(value = "SELECT code FROM process_master WHERE code LIKE 'PC-%' ORDER BY code DESC LIMIT 1", nativeQuery = true)
-    String findLastProcessCode();
+    // 접두어가 같은 공정 코드 (코드 카운터 초기화용)
+    @Query("SELECT p.code FROM Process p WHERE p.code LIKE CONCAT(:prefix, '%')")
+    List<String> findCodesByPrefix(@Param("prefix") String prefix);
 
     boolean existsByCode(String code);
 
@@ -54,6 +57,68 @@ public interface ProcessRepository extends JpaRepository<Process, Long> {
             Pageable pageable
     );
 
+    // 커서 기반 검색: (code, id) 키셋 다음 행부터 조회 (COUNT/OFFSET 없음)
+    @Query("""
+        SELECT p FROM Process p
+        JOIN FETCH p.part part
+        LEFT JOIN FETCH part.partGroup g
+        LEFT JOIN FETCH g.category c
+        WHERE (:q IS NULL OR :q = ''
+               OR LOWER(p.code) LIKE CONCAT('%', LOWER(:q), '%')
+               OR LOWER(part.code) LIKE CONCAT('%', LOWER(:q), '%')
+               OR LOWER(part.name) LIKE CONCAT('%', LOWER(:q), '%'))
+          AND (:status IS NULL OR p.status = :status)
+          AND (:categoryId IS NULL OR c.id = :categoryId)
+          AND (:groupId IS NULL OR g.id = :groupId)
+          AND (:cursorCode IS NULL
+               OR p.code > :cursorCode
+               OR (p.code = :cursorCode AND p.id > :cursorId))
+        ORDER BY p.code ASC, p.id ASC
+        """)
+    List<Process> scroll(
+            @Param("q") String q,
+            @Param("status") ProcessStatus status,
+            @Param("categoryId") Long categoryId,
+            @Param("groupId") Long groupId,
+            @Param("cursorCode") String cursorCode,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    @Query("""
+        SELECT COUNT(p) FROM Process p
+        JOIN p.part part
+        LEFT JOIN part.partGroup g
+        LEFT JOIN g.category c
+        WHERE (:q IS NULL OR :q = ''
+               OR LOWER(p.code) LIKE CONCAT('%', LOWER(:q), '%')
+               OR LOWER(part.code) LIKE CONCAT('%', LOWER(:q), '%')
+               OR LOWER(part.name) LIKE CONCAT('%', LOWER(:q), '%'))
+          AND (:status IS NULL OR p.status = :status)
+          AND (:categoryId IS NULL OR c.id = :categoryId)
+          AND (:groupId IS NULL OR g.id = :groupId)
+        """)
+    long countSearch(
+            @Param("q") String q,
+            @Param("status") ProcessStatus status,
+            @Param("categoryId") Long categoryId,
+            @Param("groupId") Long groupId
+    );
+
     // Part ID를 기준으로 Process 엔티티를 조회하는 메서드
     Optional<Process> findByPartId(Long partId);
+
+    List<Process> findByPartIdIn(Collection<Long> partIds);
+
+    // Part별 공정비용 (엔티티 로딩 없이 Part 표준 비용 재계산에 사용)
+    @Query("SELECT p.part.id AS partId, p.totalProcessCost AS cost FROM Process p WHERE p.part.id IN :partIds")
+    List<PartCostProjection> findProcessCostsByPartIdIn(@Param("partIds") Collection<Long> partIds);
+
+    // 공정을 스텝, 작업장과 함께 조회 (비용 재계산용)
+    @Query("SELECT DISTINCT p FROM Process p " +
+            "JOIN FETCH p.part " +
+            "LEFT JOIN FETCH p.steps s " +
+            "LEFT JOIN FETCH s.workCenter " +
+            "WHERE p.id IN :ids")
+    List<Process> findAllWithStepsAndWorkCentersByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -2,7 +2,15 @@ package com.sampoom.backend.api.process.repository;
 
 import com.sampoom.backend.api.process.entity.ProcessStep;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface ProcessStepRepository extends JpaRepository<ProcessStep, Long> {
+
+    // 작업장을 사용하는 공정 id (idx_process_step_work_center_id 사용)
+    @Query("SELECT DISTINCT s.process.id FROM ProcessStep s WHERE s.workCenter.id = :workCenterId")
+    List<Long> findProcessIdsByWorkCenterId(@Param("workCenterId") Long workCenterId);
 }
 
@@ -0,0 +1,77 @@
+package com.sampoom.backend.api.process.service;
+
+import com.sampoom.backend.api.part.service.PartService;
+import com.sampoom.backend.api.process.entity.Process;
+import com.sampoom.backend.api.process.repository.ProcessRepository;
+import com.sampoom.backend.api.process.repository.ProcessStepRepository;
+import com.sampoom.backend.common.outbox.dto.OutboxEventRequest;
+import com.sampoom.backend.common.outbox.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 작업장 단가(시간당 비용/효율/일일 운영시간) 변경을 공정 → Part 표준 비용으로 전파
+ * - 변경된 작업장을 쓰는 공정만 찾아 다시 계산 (idx_process_step_work_center_id)
+ * - 공정비용이 실제로 바뀐 공정의 Part만 표준 비용을 다시 계산
+ * - 바뀐 Part의 PartUpdated 이벤트를 Part당 1건으로 모아 saveEvents로 한 번에 저장
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProcessCostPropagationService {
+
+    // IN 절 한 번에 넣을 공정 id 수
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    private final ProcessRepository processRepository;
+    private final ProcessStepRepository processStepRepository;
+    private final PartService partService;
+    private final OutboxService outboxService;
+
+    /**
+     * 작업장 단가 변경 전파 (호출한 트랜잭션에 참여)
+     */
+    @Transactional
+    public void propagateWorkCenterCostChange(Long workCenterId) {
+        List<Long> processIds = processStepRepository.findProcessIdsByWorkCenterId(workCenterId);
+        if (processIds.isEmpty()) {
+            return;
+        }
+
+        // 영향받는 공정을 나눠서 로딩하고 공정비용이 바뀐 공정의 Part만 모음
+        Set<Long> partIds = new LinkedHashSet<>();
+        int changedProcessCount = 0;
+        for (int from = 0; from < processIds.size(); from += LOAD_BATCH_SIZE) {
+            List<Long> ids = processIds.subList(from, Math.min(from + LOAD_BATCH_SIZE, processIds.size()));
+            for (Process process : processRepository.findAllWithStepsAndWorkCentersByIdIn(ids)) {
+                Long before = process.getTotalProcessCost();
+                process.recalculateProcessCost();
+                if (!Objects.equals(before, process.getTotalProcessCost())) {
+                    partIds.add(process.getPart().getId());
+                    changedProcessCount++;
+                }
+            }
+        }
+
+        if (partIds.isEmpty()) {
+            log.debug("작업장 단가 변경 전파: workCenterId={}, 영향 공정={}건, 비용 변경 없음", workCenterId, processIds.size());
+            return;
+        }
+
+        // 공정비용을 먼저 반영한 뒤 Part 표준 비용 재계산
+        processRepository.flush();
+
+        List<OutboxEventRequest> events = partService.recalculateStandardCosts(partIds);
+        outboxService.saveEvents(events);
+
+        log.info("작업장 단가 변경 전파 완료: workCenterId={}, 영향 공정={}건, 변경 공정={}건, 변경 Part={}건",
+                workCenterId, processIds.size(), changedProcessCount, events.size());
+    }
+}
@@ -2,7 +2,7 @@ package com.sampoom.backend.api.process.service;
 
 import com.sampoom.backend.api.part.entity.Part;
 import com.sampoom.backend.api.part.repository.PartRepository;
-import com.sampoom.backend.api.part.service.PartService;
+import com.sampoom.backend.api.part.service.PartRecomputeScheduler;
 import com.sampoom.backend.api.process.dto.*;
 import com.sampoom.backend.api.process.entity.Process;
 import com.sampoom.backend.api.process.entity.ProcessStep;
@@ -10,9 +10,13 @@ import com.sampoom.backend.api.process.entity.ProcessStatus;
 import com.sampoom.backend.api.process.repository.ProcessRepository;
 import com.sampoom.backend.api.workcenter.entity.WorkCenter;
 import com.sampoom.backend.api.workcenter.repository.WorkCenterRepository;
+import com.sampoom.backend.common.dto.CursorResponseDTO;
+import com.sampoom.backend.common.dto.CursorToken;
 import com.sampoom.backend.common.exception.NotFoundException;
 import com.sampoom.backend.common.response.ErrorStatus;
 import com.sampoom.backend.common.response.PageResponseDto;
+import com.sampoom.backend.common.sequence.service.CodeAllocator;
+import com.sampoom.backend.common.sequence.service.CodeSpec;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -22,6 +26,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Comparator;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -30,23 +35,17 @@ public class ProcessService {
     private final ProcessRepository processRepository;
     private final PartRepository partRepository;
     private final WorkCenterRepository workCenterRepository;
-    private final PartService partService;
+    private final PartRecomputeScheduler partRecomputeScheduler;
+    private final CodeAllocator codeAllocator;
+
+    // Process 코드 형식 (PC-001 형태, PC-999 다음은 PC-1000)
+    private static final CodeSpec PROCESS_CODE = CodeSpec.of("PROCESS", "PC-", 3);
 
     /**
-     * Process 코드 자동 생성 (PC-001 형태)
+     * Process 코드 자동 생성 (공통 카운터에서 발급)
      */
     private String generateProcessCode() {
-        String lastCode = processRepository.findLastProcessCode();
-
-        if (lastCode == null) {
-            return "PC-001";
-        }
-
-        // PC-001에서 숫자 부분 추출
-        String numberPart = lastCode.substring(3);
-        int nextNumber = Integer.parseInt(numberPart) + 1;
-
-        return String.format("PC-%03d", nextNumber);
+        return codeAllocator.next(PROCESS_CODE, processRepository::findCodesByPrefix);
     }
 
     @Transactional
@@ -88,11 +87,9 @@ public class ProcessService {
 
         Process saved = processRepository.save(process);
 
-        // Part 리드타임 업데이트
-        partService.updateLeadTimeFromProcess(saved.getPart().getId());
-
-        // Part 표준 비용 업데이트 (BOM 비용 + Process 비용)
-        partService.updateStandardCostFromBomAndProcess(saved.getPart().getId());
+        // Part 리드타임/표준 비용(BOM 비용 + Process 비용) 재계산 예약
+        partRecomputeScheduler.scheduleLeadTime(saved.getPart().getId());
+        partRecomputeScheduler.scheduleStandardCost(saved.getPart().getId());
 
         return new ProcessResponseDTO(saved);
     }
@@ -115,6 +112,28 @@ public class ProcessService {
                 .build();
     }
 
+    /**
+     * 공정 검색 (커서 기반)
+     * - (code, id) 키셋으로 다음 페이지를 읽으므로 OFFSET/COUNT 없이 페이지당 비용이 일정
+     * - includeCount=true 일 때만 전체 개수를 함께 조회
+     */
+    @Transactional(readOnly = true)
+    public CursorResponseDTO<ProcessResponseDTO> scroll(String q, ProcessStatus status, Long categoryId, Long groupId,
+                                                        String cursor, int size, boolean includeCount) {
+        int safeSize = Math.min(Math.max(size, 1), 100);
+        String keyword = (q == null || q.isBlank()) ? null : q.trim();
+        CursorToken token = CursorToken.decode(cursor);
+
+        List<Process> rows = processRepository.scroll(keyword, status, categoryId, groupId,
+                token != null ? token.getKey() : null,
+                token != null ? token.getId() : null,
+                PageRequest.of(0, safeSize + 1));
+
+        Long total = includeCount ? processRepository.countSearch(keyword, status, categoryId, groupId) : null;
+
+        return CursorResponseDTO.of(rows, safeSize, Process::getCode, Process::getId, ProcessResponseDTO::new, total);
+    }
+
     @Transactional(readOnly = true)
     public ProcessResponseDTO get(Long id) {
         Process process = processRepository.findById(id)
@@ -164,19 +183,14 @@ public class ProcessService {
         process.changeStatus(req.getStatus());
         process.changeQuantity(req.getQuantity());
 
-        // 기존 Part의 리드타임은 0으로 초기화 (Part가 바뀌었을 경우를 대비)
+        // 기존 Part와 새 Part 모두 리드타임/표준 비용 재계산 예약 (커밋 직전 Part당 한 번만 실행)
+        // 기존 Part는 공정이 없어지므로 리드타임이 배송시간만 남음
         if (!originalPartId.equals(part.getId())) {
-            partService.updateLeadTimeFromProcess(originalPartId); // (기존 Part는 0으로)
+            partRecomputeScheduler.scheduleLeadTime(originalPartId);
+            partRecomputeScheduler.scheduleStandardCost(originalPartId);
         }
-
-        // 새 Part의 리드타임 업데이트
-        partService.updateLeadTimeFromProcess(part.getId());
-
-        // 기존 Part와 새 Part 모두 표준 비용 업데이트
-        if (!originalPartId.equals(part.getId())) {
-            partService.updateStandardCostFromBomAndProcess(originalPartId); // 기존 Part
-        }
-        partService.updateStandardCostFromBomAndProcess(part.getId()); // 새 Part
+        partRecomputeScheduler.scheduleLeadTime(part.getId());
+        partRecomputeScheduler.scheduleStandardCost(part.getId());
 
         // 변경감지로 자동 반영
         return new ProcessResponseDTO(process);
@@ -190,9 +204,8 @@ public class ProcessService {
 
         processRepository.delete(process);
 
-        partService.updateLeadTimeFromProcess(partId);
-
-        // Part 표준 비용 업데이트 (Process 삭제로 인한 비용 재계산)
-        partService.updateStandardCostFromBomAndProcess(partId);
+        // Part 리드타임/표준 비용 재계산 예약 (Process 삭제로 인한 재계산)
+        partRecomputeScheduler.scheduleLeadTime(partId);
+        partRecomputeScheduler.scheduleStandardCost(partId);
     }
 }
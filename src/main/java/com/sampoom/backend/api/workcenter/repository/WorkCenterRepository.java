@@ -10,14 +10,17 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+
 public interface WorkCenterRepository extends JpaRepository<WorkCenter, Long>, JpaSpecificationExecutor<WorkCenter> {
     boolean existsByNameIgnoreCase(String name);
     boolean existsByNameIgnoreCaseAndIdNot(String name, Long id);
 
 
 
-    @Query(value = "SELECT code FROM work_center WHERE code LIKE 'WC-%' ORDER BY code DESC LIMIT 1 FOR UPDATE", nativeQuery = true)
-    String findLastWorkCenterCodeWithLock();
+    // 접두어가 같은 작업장 코드 (코드 카운터 초기화용)
+    @Query("SELECT w.code FROM WorkCenter w WHERE w.code LIKE CONCAT(:prefix, '%')")
+    List<String> findCodesByPrefix(@Param("prefix") String prefix);
 
     boolean existsByCode(String code);
 
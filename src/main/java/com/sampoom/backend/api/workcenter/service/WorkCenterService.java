@@ -1,5 +1,6 @@
 package com.sampoom.backend.api.workcenter.service;
 
+import com.sampoom.backend.api.process.service.ProcessCostPropagationService;
 import com.sampoom.backend.api.workcenter.entity.WorkCenter;
 import com.sampoom.backend.api.workcenter.repository.WorkCenterRepository;
 import com.sampoom.backend.api.workcenter.dto.WorkCenterCreateRequestDTO;
@@ -11,6 +12,8 @@ import com.sampoom.backend.common.exception.BadRequestException;
 import com.sampoom.backend.common.exception.NotFoundException;
 import com.sampoom.backend.common.response.ErrorStatus;
 import com.sampoom.backend.common.response.PageResponseDto;
+import com.sampoom.backend.common.sequence.service.CodeAllocator;
+import com.sampoom.backend.common.sequence.service.CodeSpec;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -19,31 +22,24 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Objects;
+
 @Service
 @RequiredArgsConstructor
 public class WorkCenterService {
 
     private final WorkCenterRepository workCenterRepository;
+    private final ProcessCostPropagationService processCostPropagationService;
+    private final CodeAllocator codeAllocator;
+
+    // WorkCenter 코드 형식 (WC-001 형태)
+    private static final CodeSpec WORK_CENTER_CODE = CodeSpec.of("WORK_CENTER", "WC-", 3);
 
     /**
-     * WorkCenter 코드 자동 생성 (WC-001 형태)
+     * WorkCenter 코드 자동 생성 (공통 카운터에서 발급)
      */
     private String generateWorkCenterCode() {
-        String lastCode = workCenterRepository.findLastWorkCenterCodeWithLock();
-
-        if (lastCode == null) {
-            return "WC-001";
-        }
-
-        try {
-                        String numberPart = lastCode.substring(3);
-                        int nextNumber = Integer.parseInt(numberPart) + 1;
-                        return String.format("WC-%03d", nextNumber);
-                    } catch (Exception e) {
-                        throw new BadRequestException(ErrorStatus.BAD_REQUEST);
-                    }
-
-
+        return codeAllocator.next(WORK_CENTER_CODE, workCenterRepository::findCodesByPrefix);
     }
 
     @Transactional
@@ -105,12 +101,24 @@ public class WorkCenterService {
             }
             wc.changeName(name);
         }
+        Integer previousDailyOperatingHours = wc.getDailyOperatingHours();
+        Integer previousEfficiency = wc.getEfficiency();
+        Integer previousCostPerHour = wc.getCostPerHour();
+
         if (req.getType() != null) wc.changeType(req.getType());
         if (req.getStatus() != null) wc.changeStatus(req.getStatus());
         if (req.getDailyOperatingHours() != null) wc.changeDailyOperatingHours(req.getDailyOperatingHours());
         if (req.getEfficiency() != null) wc.changeEfficiency(req.getEfficiency());
         if (req.getCostPerHour() != null) wc.changeCostPerHour(req.getCostPerHour());
 
+        // 비용 계산에 쓰이는 값이 바뀐 경우에만 이 작업장을 쓰는 공정/Part 비용 재계산
+        if (!Objects.equals(previousDailyOperatingHours, wc.getDailyOperatingHours())
+                || !Objects.equals(previousEfficiency, wc.getEfficiency())
+                || !Objects.equals(previousCostPerHour, wc.getCostPerHour())) {
+            workCenterRepository.flush();
+            processCostPropagationService.propagateWorkCenterCostChange(wc.getId());
+        }
+
         return WorkCenterResponseDTO.from(wc);
     }
 
@@ -1,4 +1,116 @@
 package com.sampoom.backend.common.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
+import org.springframework.kafka.core.ProducerFactory;
+
+import java.util.Map;
+
+@Configuration
 public class KafkaProducerConfig {
+
+    // 멱등 프로듀서가 허용하는 최대 in-flight 요청 수
+    private static final int IDEMPOTENT_MAX_IN_FLIGHT = 5;
+
+    // Outbox 릴레이 프로듀서 설정 (프로파일별 application-{profile}.yml의 outbox.kafka.producer.*로 덮어씀)
+    // acks는 멱등 프로듀서가 all만 허용하므로 설정으로 바꾸지 않음
+    @Value("${outbox.kafka.producer.linger-ms:20}")
+    private int lingerMs;
+
+    @Value("${outbox.kafka.producer.batch-size:131072}")
+    private int batchSize;
+
+    @Value("${outbox.kafka.producer.compression-type:lz4}")
+    private String compressionType;
+
+    @Value("${outbox.kafka.producer.max-in-flight:5}")
+    private int maxInFlight;
+
+    @Value("${outbox.kafka.producer.delivery-timeout-ms:120000}")
+    private int deliveryTimeoutMs;
+
+    /**
+     * 기본 ProducerFactory (spring.kafka.producer.* 설정 그대로 사용)
+     * - ProducerFactory/KafkaTemplate 빈을 직접 등록하면 Boot 자동 구성이 빠지므로 함께 등록
+     */
+    @Bean
+    @Primary
+    public ProducerFactory<String, Object> kafkaProducerFactory(KafkaProperties kafkaProperties,
+                                                                ObjectProvider<SslBundles> sslBundles,
+                                                                ObjectProvider<MeterRegistry> meterRegistry) {
+        DefaultKafkaProducerFactory<String, Object> factory =
+                new DefaultKafkaProducerFactory<>(kafkaProperties.buildProducerProperties(sslBundles.getIfAvailable()));
+        String transactionIdPrefix = kafkaProperties.getProducer().getTransactionIdPrefix();
+        if (transactionIdPrefix != null) {
+            factory.setTransactionIdPrefix(transactionIdPrefix);
+        }
+        meterRegistry.ifAvailable(registry -> factory.addListener(new MicrometerProducerListener<>(registry)));
+        return factory;
+    }
+
+    /**
+     * 기본 KafkaTemplate
+     */
+    @Bean
+    @Primary
+    public KafkaTemplate<String, Object> kafkaTemplate(ProducerFactory<String, Object> kafkaProducerFactory) {
+        return new KafkaTemplate<>(kafkaProducerFactory);
+    }
+
+    /**
+     * Outbox 릴레이 전용 ProducerFactory
+     * - 접속/보안 설정은 spring.kafka.* 를 그대로 쓰고, 릴레이 트래픽에 맞는 값만 덮어씀
+     * - 멱등 프로듀서 + acks=all: 재전송이 일어나도 파티션 내 중복/순서 뒤바뀜이 없음 (max.in.flight 5 이하)
+     *   → max-in-flight가 1~5를 벗어나면 첫 전송에서 실패하지 않도록 기동 시 바로 실패
+     * - linger.ms / batch.size: 릴레이가 한꺼번에 보내는 이벤트를 큰 배치로 묶음
+     * - 압축은 배치 단위로 적용되므로 배치가 클수록 효과가 큼 (lz4 기본, zstd 선택 가능)
+     */
+    @Bean
+    public ProducerFactory<String, byte[]> outboxProducerFactory(KafkaProperties kafkaProperties,
+                                                                 ObjectProvider<SslBundles> sslBundles,
+                                                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        if (maxInFlight < 1 || maxInFlight > IDEMPOTENT_MAX_IN_FLIGHT) {
+            throw new IllegalStateException("outbox.kafka.producer.max-in-flight는 멱등 프로듀서에서 1~"
+                    + IDEMPOTENT_MAX_IN_FLIGHT + "만 허용됩니다: " + maxInFlight);
+        }
+
+        Map<String, Object> props = kafkaProperties.buildProducerProperties(sslBundles.getIfAvailable());
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, maxInFlight);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        props.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, deliveryTimeoutMs);
+
+        DefaultKafkaProducerFactory<String, byte[]> factory = new DefaultKafkaProducerFactory<>(props);
+
+        // 토픽별 전송률(record-send-rate), 바이트 전송률, 평균 배치 크기, 압축률을 /actuator/metrics 로 노출
+        meterRegistry.ifAvailable(registry -> factory.addListener(new MicrometerProducerListener<>(registry)));
+
+        return factory;
+    }
+
+    /**
+     * Outbox 릴레이 전용 KafkaTemplate
+     * - Outbox에 저장된 envelope 바이트를 그대로 전송 (ByteArraySerializer)
+     */
+    @Bean
+    public KafkaTemplate<String, byte[]> outboxKafkaTemplate(ProducerFactory<String, byte[]> outboxProducerFactory) {
+        return new KafkaTemplate<>(outboxProducerFactory);
+    }
 }
@@ -0,0 +1,116 @@
+package com.sampoom.backend.common.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부분 일치 검색용 pg_trgm GIN 인덱스 생성
+ * - LOWER(col) LIKE '%kw%'는 B-tree 인덱스를 못 타므로 LOWER(col) 표현식에 trigram GIN 인덱스를 만듦
+ * - 검색 쿼리는 모두 LOWER(col) LIKE 형태로 맞춰 두어야 이 인덱스를 사용함
+ * - ddl-auto로는 GIN/표현식 인덱스를 만들 수 없어서 기동 시 IF NOT EXISTS로 생성
+ * - CONCURRENTLY로 만들어 기존 데이터가 많아도 쓰기를 막지 않음 (트랜잭션 밖에서 실행)
+ * - 이전 기동에서 생성이 중단돼 INVALID로 남은 인덱스는 지우고 다시 생성
+ * - PostgreSQL이 아니거나 확장 설치 권한이 없거나 인덱스가 하나라도 유효하지 않으면 일반 LIKE 검색 + 기본 정렬로 동작
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexInitializer implements CommandLineRunner {
+
+    // 인덱스 이름 → 대상 테이블/표현식
+    private static final Map<String, String> TRIGRAM_INDEXES = new LinkedHashMap<>();
+
+    static {
+        TRIGRAM_INDEXES.put("idx_part_master_name_trgm", "part_master USING gin (LOWER(name) gin_trgm_ops)");
+        TRIGRAM_INDEXES.put("idx_part_master_code_trgm", "part_master USING gin (LOWER(code) gin_trgm_ops)");
+        TRIGRAM_INDEXES.put("idx_material_master_name_trgm", "material_master USING gin (LOWER(name) gin_trgm_ops)");
+        TRIGRAM_INDEXES.put("idx_material_master_code_trgm", "material_master USING gin (LOWER(material_code) gin_trgm_ops)");
+        TRIGRAM_INDEXES.put("idx_bom_code_trgm", "bom USING gin (LOWER(bom_code) gin_trgm_ops)");
+    }
+
+    // 인덱스 유효 여부 (없으면 null)
+    private static final String INDEX_VALID_SQL = """
+            SELECT i.indisvalid FROM pg_index i
+            JOIN pg_class c ON c.oid = i.indexrelid
+            WHERE c.relname = ? AND pg_catalog.pg_table_is_visible(c.oid)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // pg_trgm 사용 가능 여부 (similarity() 기반 정렬 사용 여부)
+    private volatile boolean trigramEnabled = false;
+
+    @Override
+    public void run(String... args) {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(product)) {
+            log.info("검색 인덱스: {}에서는 trigram 인덱스를 만들지 않음 (LIKE 검색)", product);
+            return;
+        }
+
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        } catch (DataAccessException e) {
+            log.warn("검색 인덱스: pg_trgm 확장을 설치할 수 없어 LIKE 검색으로 동작 ({})", e.getMostSpecificCause().getMessage());
+            return;
+        }
+
+        int validCount = 0;
+        for (Map.Entry<String, String> index : TRIGRAM_INDEXES.entrySet()) {
+            if (ensureValidIndex(index.getKey(), index.getValue())) {
+                validCount++;
+            }
+        }
+
+        if (validCount < TRIGRAM_INDEXES.size()) {
+            log.warn("검색 인덱스: pg_trgm GIN 인덱스 {}/{}개만 유효 - LIKE 검색 + 기본 정렬로 동작",
+                    validCount, TRIGRAM_INDEXES.size());
+            return;
+        }
+
+        trigramEnabled = true;
+        log.info("검색 인덱스: pg_trgm GIN 인덱스 {}개 확인 완료", validCount);
+    }
+
+    /**
+     * 인덱스를 만들고 유효한지 확인
+     * - CONCURRENTLY 생성이 중간에 실패하면 INVALID 인덱스가 남고, IF NOT EXISTS는 이를 그대로 둠
+     *   → INVALID면 지우고 다시 생성
+     */
+    private boolean ensureValidIndex(String name, String definition) {
+        try {
+            if (Boolean.FALSE.equals(isValid(name))) {
+                log.warn("검색 인덱스: {}가 INVALID 상태라 다시 생성", name);
+                jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + name);
+            }
+            jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + name + " ON " + definition);
+
+            if (Boolean.TRUE.equals(isValid(name))) {
+                return true;
+            }
+            log.warn("검색 인덱스: {} 생성 후에도 유효하지 않음", name);
+        } catch (DataAccessException e) {
+            log.warn("검색 인덱스 생성 실패: {} ({})", name, e.getMostSpecificCause().getMessage());
+        }
+        return false;
+    }
+
+    private Boolean isValid(String name) {
+        List<Boolean> valid = jdbcTemplate.queryForList(INDEX_VALID_SQL, Boolean.class, name);
+        return valid.isEmpty() ? null : valid.get(0);
+    }
+
+    public boolean isTrigramEnabled() {
+        return trigramEnabled;
+    }
+}
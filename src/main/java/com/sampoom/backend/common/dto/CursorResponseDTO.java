@@ -0,0 +1,50 @@
+package com.sampoom.backend.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(키셋) 페이지 응답
+ * - 다음 페이지는 nextCursor를 그대로 cursor 파라미터로 넘겨 조회
+ * - OFFSET/COUNT 없이 정렬 키 다음 행부터 읽으므로 몇 번째 페이지든 비용이 같음
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorResponseDTO<T> {
+    private List<T> content;       // 실제 데이터
+    private String nextCursor;     // 다음 페이지 커서 (마지막 페이지면 null)
+    private boolean hasNext;       // 다음 페이지 존재 여부
+    private int pageSize;          // 한 페이지당 데이터 수
+    private Long totalElements;    // 전체 데이터 개수 (includeCount=true 일 때만, 아니면 null)
+
+    /**
+     * size + 1개를 읽은 결과로 응답 구성 (1개 더 있으면 다음 페이지가 있음)
+     */
+    public static <E, T> CursorResponseDTO<T> of(List<E> rows, int size,
+                                                 Function<E, String> keyOf, Function<E, Long> idOf,
+                                                 Function<E, T> mapper, Long totalElements) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            E last = page.get(page.size() - 1);
+            nextCursor = CursorToken.encode(keyOf.apply(last), idOf.apply(last));
+        }
+
+        return CursorResponseDTO.<T>builder()
+                .content(page.stream().map(mapper).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .pageSize(size)
+                .totalElements(totalElements)
+                .build();
+    }
+}
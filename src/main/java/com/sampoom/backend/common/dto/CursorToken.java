@@ -0,0 +1,70 @@
+package com.sampoom.backend.common.dto;
+
+import com.sampoom.backend.common.exception.BadRequestException;
+import com.sampoom.backend.common.response.ErrorStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지 커서 (정렬 키 + id)
+ * - 마지막 행의 정렬 키(code 등)와 id를 Base64URL로 묶은 불투명 문자열로 주고받음
+ * - 정렬 키가 같을 때는 id로 순서를 정함 (정렬 키, id) > (key, id)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorToken {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    private final String key;   // 마지막 행의 정렬 키
+    private final Long id;      // 마지막 행의 id
+
+    public static String encode(String key, Long id) {
+        String raw = VERSION + SEPARATOR + id + SEPARATOR + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 해석 (없으면 null = 첫 페이지)
+     */
+    public static CursorToken decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new BadRequestException(ErrorStatus.INVALID_CURSOR);
+            }
+            return new CursorToken(parts[2], Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            // Base64 / 숫자 형식 오류
+            throw new BadRequestException(ErrorStatus.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 커서 다음 행 조건: key > 커서 키 OR (key = 커서 키 AND id > 커서 id)
+     * - 커서가 없으면 조건 없음 (첫 페이지)
+     * - (keyAttribute, id) 오름차순 정렬과 함께 사용
+     */
+    public static <T> Specification<T> after(CursorToken token, String keyAttribute) {
+        return (root, query, cb) -> {
+            if (token == null) {
+                return null;
+            }
+            return cb.or(
+                    cb.greaterThan(root.get(keyAttribute), token.getKey()),
+                    cb.and(cb.equal(root.get(keyAttribute), token.getKey()),
+                            cb.greaterThan(root.get("id"), token.getId())));
+        };
+    }
+}
@@ -0,0 +1,55 @@
+package com.sampoom.backend.common.outbox.controller;
+
+import com.sampoom.backend.common.outbox.dto.OutboxSnapshotJobResponseDTO;
+import com.sampoom.backend.common.outbox.service.OutboxSnapshotService;
+import com.sampoom.backend.common.response.ApiResponse;
+import com.sampoom.backend.common.response.SuccessStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "Outbox Snapshot", description = "전체 카탈로그 재발행(스냅샷) 작업 API")
+@RestController
+@RequestMapping("/admin/outbox/snapshots")
+@RequiredArgsConstructor
+@PreAuthorize("hasAuthority('ROLE_ADMIN')") // 관리자만 실행 가능
+public class OutboxSnapshotController {
+
+    private final OutboxSnapshotService outboxSnapshotService;
+
+    @Operation(summary = "스냅샷 작업 시작", description = "Part, Material, BOM 전체를 Outbox로 재발행하는 작업을 시작합니다.")
+    @PostMapping
+    public ResponseEntity<ApiResponse<OutboxSnapshotJobResponseDTO>> start() {
+        OutboxSnapshotJobResponseDTO response = outboxSnapshotService.start();
+        return ApiResponse.success(SuccessStatus.CREATED, response);
+    }
+
+    @Operation(summary = "스냅샷 작업 목록 조회", description = "최근 스냅샷 작업 20건을 조회합니다.")
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<OutboxSnapshotJobResponseDTO>>> list() {
+        return ApiResponse.success(SuccessStatus.OK, outboxSnapshotService.list());
+    }
+
+    @Operation(summary = "스냅샷 작업 상세 조회", description = "작업의 현재 단계와 진행 상황을 조회합니다.")
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<OutboxSnapshotJobResponseDTO>> get(@PathVariable Long id) {
+        return ApiResponse.success(SuccessStatus.OK, outboxSnapshotService.get(id));
+    }
+
+    @Operation(summary = "스냅샷 작업 중단", description = "실행 중인 작업을 현재 청크가 끝난 뒤 중단합니다.")
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<ApiResponse<OutboxSnapshotJobResponseDTO>> cancel(@PathVariable Long id) {
+        return ApiResponse.success(SuccessStatus.OK, outboxSnapshotService.cancel(id));
+    }
+
+    @Operation(summary = "스냅샷 작업 재개", description = "실패하거나 중단된 작업을 마지막 체크포인트부터 재개합니다.")
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<ApiResponse<OutboxSnapshotJobResponseDTO>> resume(@PathVariable Long id) {
+        return ApiResponse.success(SuccessStatus.OK, outboxSnapshotService.resume(id));
+    }
+}
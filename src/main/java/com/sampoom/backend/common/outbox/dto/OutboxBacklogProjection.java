@@ -0,0 +1,9 @@
+package com.sampoom.backend.common.outbox.dto;
+
+import com.sampoom.backend.common.outbox.entity.OutboxStatus;
+
+public interface OutboxBacklogProjection {
+    String getAggregateType();
+    OutboxStatus getStatus();
+    Long getCount();
+}
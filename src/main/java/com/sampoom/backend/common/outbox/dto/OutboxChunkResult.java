@@ -0,0 +1,19 @@
+package com.sampoom.backend.common.outbox.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 전체 재발행 청크 1개의 처리 결과
+ */
+@Getter
+@AllArgsConstructor
+public class OutboxChunkResult {
+
+    private int count;      // 청크에서 읽은 행 수
+    private Long lastId;    // 청크의 마지막 id (다음 청크는 이 id 이후부터)
+
+    public static OutboxChunkResult empty(Long lastId) {
+        return new OutboxChunkResult(0, lastId);
+    }
+}
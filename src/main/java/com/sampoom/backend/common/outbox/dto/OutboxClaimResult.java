@@ -0,0 +1,18 @@
+package com.sampoom.backend.common.outbox.dto;
+
+import com.sampoom.backend.common.outbox.entity.Outbox;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 발행 대상 점유 결과
+ */
+@Getter
+@AllArgsConstructor
+public class OutboxClaimResult {
+
+    private List<Outbox> events;    // 점유한 이벤트 (순서 보장을 위해 보류된 이벤트 제외)
+    private boolean full;           // 보류 전 후보가 batchSize만큼 찼는지 (남은 발행 대상이 더 있을 수 있음)
+}
@@ -0,0 +1,25 @@
+package com.sampoom.backend.common.outbox.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Kafka로 나가는 공통 이벤트 형식 (PartEvent, BomEvent 등과 동일한 JSON 구조)
+ * Outbox 저장 시점에 한 번만 직렬화해서 바이트로 보관
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonPropertyOrder({"eventId", "eventType", "version", "occurredAt", "payload"})
+public class OutboxEnvelope {
+
+    private String eventId;       // UUID (Outbox.eventId와 동일)
+    private String eventType;     // "PartCreated", "BomUpdated" 등
+    private Long version;         // 엔티티 버전
+    private String occurredAt;    // ISO-8601 시각 (OffsetDateTime.toString())
+    private Object payload;       // 도메인별 Payload DTO
+}
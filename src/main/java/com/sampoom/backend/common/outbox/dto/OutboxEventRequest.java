@@ -0,0 +1,20 @@
+package com.sampoom.backend.common.outbox.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Outbox 대량 저장 요청 1건 (OutboxService.saveEvents)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class OutboxEventRequest {
+
+    private String aggregateType;   // 예: "PART"
+    private Long aggregateId;
+    private String eventType;       // 예: "PartUpdated"
+    private Long version;
+    private Object payload;         // 도메인별 Payload DTO
+}
@@ -0,0 +1,37 @@
+package com.sampoom.backend.common.outbox.dto;
+
+import com.sampoom.backend.common.outbox.entity.OutboxSnapshotJob;
+import com.sampoom.backend.common.outbox.entity.SnapshotJobStatus;
+import com.sampoom.backend.common.outbox.entity.SnapshotStage;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class OutboxSnapshotJobResponseDTO {
+    private final Long id;
+    private final SnapshotJobStatus status;
+    private final SnapshotStage stage;          // 현재 단계
+    private final Long lastId;                  // 현재 단계의 마지막 체크포인트 id
+    private final long stageProcessed;
+    private final long totalProcessed;
+    private final int chunkSize;
+    private final String errorMessage;
+    private final LocalDateTime heartbeatAt;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime finishedAt;
+
+    public OutboxSnapshotJobResponseDTO(OutboxSnapshotJob job) {
+        this.id = job.getId();
+        this.status = job.getStatus();
+        this.stage = job.getStage();
+        this.lastId = job.getLastId();
+        this.stageProcessed = job.getStageProcessed();
+        this.totalProcessed = job.getTotalProcessed();
+        this.chunkSize = job.getChunkSize();
+        this.errorMessage = job.getErrorMessage();
+        this.heartbeatAt = job.getHeartbeatAt();
+        this.startedAt = job.getStartedAt();
+        this.finishedAt = job.getFinishedAt();
+    }
+}
@@ -9,7 +9,11 @@ import java.time.OffsetDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "outbox")
+@Table(name = "outbox", indexes = {
+        @Index(name = "idx_outbox_status_created_at", columnList = "status, created_at"),
+        @Index(name = "idx_outbox_status_published_at", columnList = "status, published_at"),
+        @Index(name = "idx_outbox_aggregate_status", columnList = "aggregate_type, aggregate_id, status")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -25,15 +29,22 @@ public class Outbox extends BaseTimeEntity {
     private String eventType;       // 예: "PartCreatedEvent"
 
     @Column(columnDefinition = "TEXT")
-    private String payload;         // JSON 데이터
+    private String payload;         // JSON 데이터 (이전 형식, envelope가 없는 행만 사용)
+
+    @Column(length = 1_000_000)
+    private byte[] envelope;        // Kafka로 그대로 보낼 이벤트 JSON 바이트 (OutboxEnvelope)
 
     @Enumerated(EnumType.STRING)
-    private OutboxStatus status;    // READY / PUBLISHED / FAILED
+    private OutboxStatus status;    // READY / PUBLISHED / FAILED / DEAD_LETTER / SUPERSEDED
 
     private int retryCount;
 
     private LocalDateTime publishedAt;
 
+    private LocalDateTime claimedUntil; // 릴레이 점유 만료 시각 (이 시각 전까지 다른 릴레이가 가져가지 않음)
+
+    private LocalDateTime nextAttemptAt; // FAILED 이벤트의 다음 재시도 시각 (백오프)
+
     @Column(nullable = false, updatable = false, unique = true)
     private String eventId;         // 이벤트 고유 ID (UUID)
 
@@ -46,11 +57,25 @@ public class Outbox extends BaseTimeEntity {
     public void markPublished() {
         this.status = OutboxStatus.PUBLISHED;
         this.publishedAt = LocalDateTime.now();
+        this.claimedUntil = null;
     }
 
-    public void markFailed() {
-        this.status = OutboxStatus.FAILED;
+    // 재시도 횟수를 다 쓰면 DEAD_LETTER, 아니면 nextAttemptAt까지 재시도 보류
+    public void markFailed(int maxRetryCount, LocalDateTime nextAttemptAt) {
         this.retryCount += 1;
+        this.claimedUntil = null;
+        if (this.retryCount >= maxRetryCount) {
+            this.status = OutboxStatus.DEAD_LETTER;
+            this.nextAttemptAt = null;
+        } else {
+            this.status = OutboxStatus.FAILED;
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+
+    // 릴레이가 발행 대상으로 점유
+    public void claim(LocalDateTime claimedUntil) {
+        this.claimedUntil = claimedUntil;
     }
 
     @PrePersist
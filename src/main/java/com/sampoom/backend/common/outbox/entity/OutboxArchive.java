@@ -0,0 +1,58 @@
+package com.sampoom.backend.common.outbox.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+
+/**
+ * 보존 기간이 지난 PUBLISHED Outbox 보관 테이블
+ * (OutboxRetentionService가 INSERT ... SELECT로만 채우므로 id는 원본 Outbox id를 그대로 사용)
+ */
+@Entity
+@Table(name = "outbox_archive", indexes = {
+        @Index(name = "idx_outbox_archive_published_at", columnList = "published_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxArchive {
+
+    @Id
+    private Long id;
+
+    private String aggregateType;
+    private Long aggregateId;
+    private String eventType;
+
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(length = 1_000_000)
+    private byte[] envelope;
+
+    @Enumerated(EnumType.STRING)
+    private OutboxStatus status;
+
+    private int retryCount;
+
+    private LocalDateTime publishedAt;
+
+    @Column(nullable = false)
+    private String eventId;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(nullable = false)
+    private OffsetDateTime occurredAt;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt; // 보관 테이블로 옮긴 시각
+}
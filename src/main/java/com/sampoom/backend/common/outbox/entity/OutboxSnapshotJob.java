@@ -0,0 +1,121 @@
+package com.sampoom.backend.common.outbox.entity;
+
+import com.sampoom.backend.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전체 카탈로그(Part/Material/BOM) Outbox 재발행 작업 상태
+ * - 청크를 커밋할 때마다 같은 트랜잭션에서 단계와 마지막 id를 기록 (체크포인트)
+ * - 서버가 중간에 죽으면 마지막 체크포인트 다음 id부터 이어서 발행
+ * - 실행 중인 작업만 running_slot = true (유니크 제약) → 동시에 시작/재개해도 실행 중 작업은 DB에서 하나로 보장
+ */
+@Entity
+@Table(name = "outbox_snapshot_job", indexes = {
+        @Index(name = "idx_outbox_snapshot_job_status", columnList = "status")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_outbox_snapshot_job_running_slot", columnNames = "running_slot")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxSnapshotJob extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SnapshotJobStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SnapshotStage stage;        // 현재 단계
+
+    @Column(nullable = false)
+    private Long lastId;                // 현재 단계에서 마지막으로 커밋된 id
+
+    private long stageProcessed;        // 현재 단계에서 처리한 행 수
+    private long totalProcessed;        // 전체 처리한 행 수
+
+    private int chunkSize;
+
+    @Column(length = 1000)
+    private String errorMessage;
+
+    @Column(name = "running_slot")
+    private Boolean runningSlot;        // 실행 중이면 true, 끝나면 null (NULL은 유니크 제약에서 중복 허용)
+
+    private LocalDateTime heartbeatAt;  // 실행 중인 인스턴스가 마지막으로 진행을 기록한 시각
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    @Version
+    private Long version;               // 실행 스레드와 취소 요청이 동시에 수정하는 경우 감지
+
+    public static OutboxSnapshotJob start(int chunkSize, LocalDateTime now) {
+        return OutboxSnapshotJob.builder()
+                .status(SnapshotJobStatus.RUNNING)
+                .stage(SnapshotStage.values()[0])
+                .lastId(0L)
+                .chunkSize(chunkSize)
+                .runningSlot(true)
+                .heartbeatAt(now)
+                .startedAt(now)
+                .build();
+    }
+
+    // 청크 커밋 기록
+    public void checkpoint(Long lastId, int count, LocalDateTime now) {
+        this.lastId = lastId;
+        this.stageProcessed += count;
+        this.totalProcessed += count;
+        this.heartbeatAt = now;
+    }
+
+    // 현재 단계 완료 → 다음 단계 (마지막 단계였으면 작업 완료)
+    public void nextStage(LocalDateTime now) {
+        SnapshotStage next = this.stage.next();
+        if (next == null) {
+            this.status = SnapshotJobStatus.COMPLETED;
+            this.runningSlot = null;
+            this.finishedAt = now;
+        } else {
+            this.stage = next;
+            this.lastId = 0L;
+            this.stageProcessed = 0;
+        }
+        this.heartbeatAt = now;
+    }
+
+    public void fail(String errorMessage, LocalDateTime now) {
+        this.status = SnapshotJobStatus.FAILED;
+        this.runningSlot = null;
+        this.errorMessage = errorMessage != null && errorMessage.length() > 1000
+                ? errorMessage.substring(0, 1000) : errorMessage;
+        this.finishedAt = now;
+    }
+
+    public void cancel(LocalDateTime now) {
+        this.status = SnapshotJobStatus.CANCELLED;
+        this.runningSlot = null;
+        this.finishedAt = now;
+    }
+
+    // 마지막 체크포인트부터 다시 실행
+    public void resume(LocalDateTime now) {
+        this.status = SnapshotJobStatus.RUNNING;
+        this.runningSlot = true;
+        this.errorMessage = null;
+        this.finishedAt = null;
+        this.heartbeatAt = now;
+    }
+
+    public boolean isRunning() {
+        return this.status == SnapshotJobStatus.RUNNING;
+    }
+}
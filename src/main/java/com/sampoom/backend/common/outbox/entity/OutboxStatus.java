@@ -3,5 +3,7 @@ package com.sampoom.backend.common.outbox.entity;
 public enum OutboxStatus {
     READY,
     PUBLISHED,
-    FAILED
-}
\ No newline at end of file
+    FAILED,
+    DEAD_LETTER,    // 최대 재시도 횟수를 넘겨 더 이상 자동으로 발행하지 않는 이벤트
+    SUPERSEDED      // 같은 aggregate의 더 최신 스냅샷 이벤트로 대체되어 발행하지 않은 이벤트
+}
@@ -0,0 +1,8 @@
+package com.sampoom.backend.common.outbox.entity;
+
+public enum SnapshotJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED,     // 오류로 중단 (resume으로 마지막 체크포인트부터 재개)
+    CANCELLED   // 관리자가 중단 (resume으로 마지막 체크포인트부터 재개)
+}
@@ -0,0 +1,19 @@
+package com.sampoom.backend.common.outbox.entity;
+
+/**
+ * 스냅샷 작업 단계 (참조되는 쪽부터 순서대로 재발행)
+ */
+public enum SnapshotStage {
+    PART_CATEGORY,
+    PART_GROUP,
+    PART,
+    MATERIAL_CATEGORY,
+    MATERIAL,
+    BOM;
+
+    // 다음 단계 (마지막 단계면 null)
+    public SnapshotStage next() {
+        int next = ordinal() + 1;
+        return next < values().length ? values()[next] : null;
+    }
+}
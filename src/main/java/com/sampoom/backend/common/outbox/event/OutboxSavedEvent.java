@@ -0,0 +1,15 @@
+package com.sampoom.backend.common.outbox.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outbox 행이 저장되었음을 알리는 애플리케이션 이벤트 (커밋 후 릴레이를 깨우는 용도)
+ */
+@Getter
+@AllArgsConstructor
+public class OutboxSavedEvent {
+
+    private final String aggregateType;
+    private final Long aggregateId;
+}
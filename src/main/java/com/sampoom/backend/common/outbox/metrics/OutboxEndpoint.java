@@ -0,0 +1,27 @@
+package com.sampoom.backend.common.outbox.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * /actuator/outbox : Outbox 적체량과 릴레이 지연 요약
+ * (노출하려면 management.endpoints.web.exposure.include에 outbox 추가)
+ */
+@Component
+@Endpoint(id = "outbox")
+@RequiredArgsConstructor
+public class OutboxEndpoint {
+
+    private final OutboxMetrics outboxMetrics;
+
+    @ReadOperation
+    public Map<String, Object> outbox() {
+        // 조회 시점의 값을 보여주도록 바로 다시 집계
+        outboxMetrics.refresh();
+        return outboxMetrics.snapshot();
+    }
+}
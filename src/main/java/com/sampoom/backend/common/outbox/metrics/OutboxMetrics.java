@@ -0,0 +1,155 @@
+package com.sampoom.backend.common.outbox.metrics;
+
+import com.sampoom.backend.common.outbox.dto.OutboxBacklogProjection;
+import com.sampoom.backend.common.outbox.entity.Outbox;
+import com.sampoom.backend.common.outbox.entity.OutboxStatus;
+import com.sampoom.backend.common.outbox.repository.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox 릴레이 메트릭
+ * - 적체량(aggregateType/상태별)과 가장 오래된 READY 이벤트의 나이는 주기적으로 DB에서 집계해 게이지로 노출
+ * - 전송 지연(히스토그램), 실패 수, 배치 크기는 릴레이가 발행할 때마다 기록
+ * - 스크레이프마다 DB를 조회하지 않도록 집계 결과를 캐시
+ */
+@Slf4j
+@Component
+public class OutboxMetrics {
+
+    private static final List<OutboxStatus> BACKLOG_STATUSES =
+            List.of(OutboxStatus.READY, OutboxStatus.FAILED, OutboxStatus.DEAD_LETTER);
+
+    private final OutboxRepository outboxRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final MultiGauge backlogGauge;
+    private final DistributionSummary batchSize;
+    private final Counter coalescedCounter;
+
+    // 마지막 집계 결과
+    private volatile List<OutboxBacklogProjection> backlog = List.of();
+    private volatile LocalDateTime oldestReadyCreatedAt;
+    private volatile LocalDateTime refreshedAt;
+
+    public OutboxMetrics(OutboxRepository outboxRepository, MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.meterRegistry = meterRegistry;
+
+        this.backlogGauge = MultiGauge.builder("outbox.backlog")
+                .description("발행되지 않은 Outbox 행 수 (aggregateType/상태별)")
+                .register(meterRegistry);
+        TimeGauge.builder("outbox.oldest.ready.age", this, TimeUnit.MILLISECONDS, OutboxMetrics::oldestReadyAgeMillis)
+                .description("가장 오래된 READY 이벤트의 생성 후 경과 시간")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("outbox.relay.batch.size")
+                .description("릴레이가 한 번에 점유한 이벤트 수")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("outbox.relay.coalesced")
+                .description("최신 스냅샷으로 대체되어 발행하지 않은 이벤트 수 (누적)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 적체량/가장 오래된 READY 이벤트 시각을 다시 집계
+     */
+    @Scheduled(fixedDelayString = "${outbox.metrics.refresh-ms:15000}")
+    public void refresh() {
+        try {
+            List<OutboxBacklogProjection> rows = outboxRepository.countBacklogByAggregateType(BACKLOG_STATUSES);
+            LocalDateTime oldest = outboxRepository.findOldestCreatedAt(OutboxStatus.READY);
+
+            backlogGauge.register(rows.stream()
+                    .map(row -> MultiGauge.Row.of(
+                            Tags.of("aggregateType", row.getAggregateType(), "status", row.getStatus().name()),
+                            row.getCount()))
+                    .toList(), true);
+
+            this.backlog = rows;
+            this.oldestReadyCreatedAt = oldest;
+            this.refreshedAt = LocalDateTime.now();
+        } catch (Exception e) {
+            log.warn("[OutboxMetrics] 적체량 집계 실패: reason={}", e.getMessage());
+        }
+    }
+
+    /**
+     * Kafka 전송 1건의 결과 기록
+     * @param sendNanos 전송 요청부터 브로커 응답까지 걸린 시간
+     */
+    public void recordSend(Outbox outbox, long sendNanos, boolean success) {
+        String outcome = success ? "success" : "failure";
+
+        Timer.builder("outbox.publish.latency")
+                .description("Kafka 전송 요청부터 응답까지 걸린 시간")
+                .tags("aggregateType", outbox.getAggregateType(), "outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(sendNanos, TimeUnit.NANOSECONDS);
+
+        if (success) {
+            if (outbox.getCreatedAt() != null) {
+                Timer.builder("outbox.publish.delay")
+                        .description("Outbox 저장부터 Kafka 발행 완료까지 걸린 시간")
+                        .tags("aggregateType", outbox.getAggregateType())
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+                        .record(Duration.between(outbox.getCreatedAt(), LocalDateTime.now()));
+            }
+        } else {
+            Counter.builder("outbox.publish.failures")
+                    .description("Kafka 전송 실패 수 (누적)")
+                    .tags("aggregateType", outbox.getAggregateType())
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    /**
+     * 릴레이 배치 1회의 점유/대체 건수 기록
+     */
+    public void recordBatch(int claimed, int coalesced) {
+        batchSize.record(claimed);
+        if (coalesced > 0) {
+            coalescedCounter.increment(coalesced);
+        }
+    }
+
+    /**
+     * 현재 상태 요약 (actuator /outbox 응답)
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Map<String, Long>> backlogByType = new LinkedHashMap<>();
+        for (OutboxBacklogProjection row : backlog) {
+            backlogByType.computeIfAbsent(row.getAggregateType(), key -> new LinkedHashMap<>())
+                    .put(row.getStatus().name(), row.getCount());
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("backlog", backlogByType);
+        result.put("oldestReadyCreatedAt", oldestReadyCreatedAt);
+        result.put("oldestReadyAgeSeconds", oldestReadyAgeMillis() / 1000);
+        result.put("refreshedAt", refreshedAt);
+        return result;
+    }
+
+    private double oldestReadyAgeMillis() {
+        LocalDateTime oldest = oldestReadyCreatedAt;
+        return oldest == null ? 0 : Math.max(Duration.between(oldest, LocalDateTime.now()).toMillis(), 0);
+    }
+}
@@ -0,0 +1,25 @@
+package com.sampoom.backend.common.outbox.repository;
+
+import com.sampoom.backend.common.outbox.entity.OutboxArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface OutboxArchiveRepository extends JpaRepository<OutboxArchive, Long> {
+
+    // Outbox 행을 그대로 보관 테이블로 복사 (엔티티 로딩 없이 DB 안에서 처리)
+    @Modifying
+    @Query(value = """
+            INSERT INTO outbox_archive (id, aggregate_type, aggregate_id, event_type, payload, envelope, status, retry_count,
+                                        published_at, event_id, version, occurred_at, created_at, updated_at, archived_at)
+            SELECT id, aggregate_type, aggregate_id, event_type, payload, envelope, status, retry_count,
+                   published_at, event_id, version, occurred_at, created_at, updated_at, :archivedAt
+            FROM outbox
+            WHERE id IN (:ids)
+            """, nativeQuery = true)
+    int copyFromOutbox(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+}
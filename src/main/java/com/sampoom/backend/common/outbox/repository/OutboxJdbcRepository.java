@@ -0,0 +1,53 @@
+package com.sampoom.backend.common.outbox.repository;
+
+import com.sampoom.backend.common.outbox.entity.Outbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Outbox 대량 저장 (JDBC batch insert)
+ * - Outbox id는 IDENTITY 전략이라 Hibernate insert 배치가 동작하지 않으므로 JdbcTemplate으로 직접 묶어서 저장
+ * - PostgreSQL은 reWriteBatchedInserts=true 설정 시 여러 행 INSERT 한 문장으로 재작성됨
+ * - JPA Auditing을 거치지 않으므로 created_at/updated_at을 직접 채움
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO outbox (aggregate_type, aggregate_id, event_type, envelope, status, retry_count,
+                                event_id, version, occurred_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(List<Outbox> outboxes) {
+        if (outboxes.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, outboxes, BATCH_SIZE, (ps, outbox) -> {
+            ps.setString(1, outbox.getAggregateType());
+            ps.setLong(2, outbox.getAggregateId());
+            ps.setString(3, outbox.getEventType());
+            ps.setBytes(4, outbox.getEnvelope());
+            ps.setString(5, outbox.getStatus().name());
+            ps.setInt(6, outbox.getRetryCount());
+            ps.setString(7, outbox.getEventId());
+            ps.setLong(8, outbox.getVersion() != null ? outbox.getVersion() : 1L); // Outbox.prePersist와 동일한 기본값
+            ps.setObject(9, outbox.getOccurredAt());
+            ps.setTimestamp(10, now);
+            ps.setTimestamp(11, now);
+        });
+    }
+}
@@ -1,16 +1,81 @@
 package com.sampoom.backend.common.outbox.repository;
 
+import com.sampoom.backend.common.outbox.dto.OutboxBacklogProjection;
 import com.sampoom.backend.common.outbox.entity.Outbox;
 import com.sampoom.backend.common.outbox.entity.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface OutboxRepository extends JpaRepository<Outbox, Long> {
 
-    // READY와 FAILED 상태를 모두 조회하되, 재시도 횟수가 maxRetryCount 미만인 것만 조회
-    @Query("SELECT o FROM Outbox o WHERE (o.status = 'READY' OR (o.status = 'FAILED' AND o.retryCount < :maxRetryCount)) ORDER BY o.createdAt ASC")
-    List<Outbox> findTop10ByStatusReadyOrFailedWithRetryLimitOrderByCreatedAtAsc(@Param("maxRetryCount") int maxRetryCount);
+    // READY와 재시도 시각이 된 FAILED(재시도 횟수 maxRetryCount 미만) 중 점유되지 않은 것을 오래된 순으로 pageable 크기만큼 조회
+    // 같은 aggregate의 이전 미발행 이벤트(READY/FAILED)가 점유 중(다른 인스턴스가 발행 중)이거나 재시도 대기 중이면
+    // 순서 보장을 위해 뒤 이벤트도 가져가지 않음
+    // lock.timeout = -2 (SKIP LOCKED): PostgreSQL에서는 FOR UPDATE SKIP LOCKED, 지원하지 않는 H2에서는 FOR UPDATE로 렌더링
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM Outbox o " +
+            "WHERE (o.status = 'READY' OR (o.status = 'FAILED' AND o.retryCount < :maxRetryCount)) " +
+            "AND (o.nextAttemptAt IS NULL OR o.nextAttemptAt <= :now) " +
+            "AND (o.claimedUntil IS NULL OR o.claimedUntil < :now) " +
+            "AND NOT EXISTS (SELECT 1 FROM Outbox p " +
+            "   WHERE p.aggregateType = o.aggregateType AND p.aggregateId = o.aggregateId " +
+            "   AND p.status IN ('READY', 'FAILED') AND p.id < o.id " +
+            "   AND (p.claimedUntil >= :now OR p.nextAttemptAt > :now)) " +
+            "ORDER BY o.createdAt ASC, o.id ASC")
+    List<Outbox> findClaimableEvents(@Param("maxRetryCount") int maxRetryCount,
+                                     @Param("now") LocalDateTime now,
+                                     Pageable pageable);
+
+    // 점유 후보(ids) 중 같은 aggregate의 이전 미발행 이벤트가 후보에 없는 것
+    // (SKIP LOCKED로 건너뛴 이전 이벤트, 정렬 순서가 id와 어긋나 배치 밖으로 밀린 이전 이벤트 등)
+    @Query("SELECT o.id FROM Outbox o WHERE o.id IN :ids " +
+            "AND EXISTS (SELECT 1 FROM Outbox p " +
+            "   WHERE p.aggregateType = o.aggregateType AND p.aggregateId = o.aggregateId " +
+            "   AND p.status IN ('READY', 'FAILED') AND p.id < o.id AND p.id NOT IN :ids)")
+    List<Long> findIdsWithPendingPredecessorOutside(@Param("ids") Collection<Long> ids);
+
+    // 발행 성공(또는 대체) 일괄 반영
+    @Modifying
+    @Query("UPDATE Outbox o SET o.status = :status, o.publishedAt = :publishedAt, o.claimedUntil = NULL WHERE o.id IN :ids")
+    int markPublishedByIds(@Param("ids") Collection<Long> ids,
+                           @Param("status") OutboxStatus status,
+                           @Param("publishedAt") LocalDateTime publishedAt);
+
+    // 전송하지 않은 이벤트의 점유 해제 (상태는 그대로 유지)
+    @Modifying
+    @Query("UPDATE Outbox o SET o.claimedUntil = NULL WHERE o.id IN :ids")
+    int releaseClaimsByIds(@Param("ids") Collection<Long> ids);
+
+    // 보존 기간이 지난 처리 완료(발행/대체) Outbox id를 오래된 순으로 pageable 크기만큼 조회
+    @Query("SELECT o.id FROM Outbox o WHERE o.status IN :statuses AND o.publishedAt < :cutoff ORDER BY o.publishedAt ASC")
+    List<Long> findArchivableIds(@Param("statuses") Collection<OutboxStatus> statuses,
+                                 @Param("cutoff") LocalDateTime cutoff,
+                                 Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Outbox o WHERE o.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    long countByStatus(OutboxStatus status);
+
+    // aggregateType/상태별 행 수 (메트릭 집계용)
+    @Query("SELECT o.aggregateType AS aggregateType, o.status AS status, COUNT(o) AS count " +
+            "FROM Outbox o WHERE o.status IN :statuses GROUP BY o.aggregateType, o.status")
+    List<OutboxBacklogProjection> countBacklogByAggregateType(@Param("statuses") Collection<OutboxStatus> statuses);
+
+    // 해당 상태에서 가장 오래된 생성 시각 (메트릭 집계용)
+    @Query("SELECT MIN(o.createdAt) FROM Outbox o WHERE o.status = :status")
+    LocalDateTime findOldestCreatedAt(@Param("status") OutboxStatus status);
 }
@@ -0,0 +1,36 @@
+package com.sampoom.backend.common.outbox.repository;
+
+import com.sampoom.backend.common.outbox.entity.OutboxSnapshotJob;
+import com.sampoom.backend.common.outbox.entity.SnapshotJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxSnapshotJobRepository extends JpaRepository<OutboxSnapshotJob, Long> {
+
+    boolean existsByStatus(SnapshotJobStatus status);
+
+    // 최근 작업 목록
+    List<OutboxSnapshotJob> findTop20ByOrderByIdDesc();
+
+    // heartbeat가 끊긴 실행 중 작업 (실행하던 인스턴스가 죽은 것으로 판단)
+    List<OutboxSnapshotJob> findByStatusAndHeartbeatAtBefore(SnapshotJobStatus status, LocalDateTime cutoff);
+
+    // 진행 기록 갱신 (스로틀 대기 중에도 다른 인스턴스가 가져가지 않도록)
+    @Modifying
+    @Query("UPDATE OutboxSnapshotJob j SET j.heartbeatAt = :now WHERE j.id = :id")
+    int touchHeartbeat(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 끊긴 작업 인수 (읽은 heartbeat가 그대로일 때만 성공 → 여러 인스턴스 중 하나만 인수)
+    @Modifying
+    @Query("UPDATE OutboxSnapshotJob j SET j.heartbeatAt = :now " +
+            "WHERE j.id = :id AND j.status = :status AND j.heartbeatAt = :previous")
+    int takeOver(@Param("id") Long id,
+                 @Param("status") SnapshotJobStatus status,
+                 @Param("previous") LocalDateTime previous,
+                 @Param("now") LocalDateTime now);
+}
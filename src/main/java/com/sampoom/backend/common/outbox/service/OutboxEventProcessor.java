@@ -3,18 +3,31 @@ package com.sampoom.backend.common.outbox.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sampoom.backend.api.bom.event.dto.BomEvent;
 import com.sampoom.backend.api.material.event.dto.MaterialCategoryEvent;
+import com.sampoom.backend.api.material.event.dto.MaterialEvent;
 import com.sampoom.backend.api.part.event.dto.PartCategoryEvent;
 import com.sampoom.backend.api.part.event.dto.PartEvent;
 import com.sampoom.backend.api.part.event.dto.PartGroupEvent;
 import com.sampoom.backend.common.outbox.entity.Outbox;
+import com.sampoom.backend.common.outbox.metrics.OutboxMetrics;
 import com.sampoom.backend.common.outbox.repository.OutboxRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -30,90 +43,27 @@ public class OutboxEventProcessor {
     private static final String TOPIC_MATERIAL_CATEGORY = "material-category-events";
     private static final String TOPIC_BOM = "bom-events";
 
+    // Kafka 응답 대기 시간 (초)
+    private static final long SEND_TIMEOUT_SECONDS = 10;
+
     private final OutboxRepository outboxRepository;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxService outboxService;
+    private final KafkaTemplate<String, Object> kafkaTemplate;          // 이전 형식(payload TEXT) 행 발행용
+    private final KafkaTemplate<String, byte[]> outboxKafkaTemplate;   // envelope 바이트 발행용
     private final ObjectMapper objectMapper;
+    private final OutboxMetrics outboxMetrics;
 
     /**
      * 개별 Outbox 이벤트 발행
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void processAndPublishEvent(Outbox outbox) {
-        String topicName;
-        Object eventToSend; // Kafka로 보낼 최종 이벤트 DTO
-        String eventKey = outbox.getAggregateId().toString();
-
+        long startNanos = System.nanoTime();
         try {
-            // AggregateType에 따라 DTO 역질렬화 및 토픽/이벤트 구성
-            switch (outbox.getAggregateType()) {
-                case "PART":
-                    eventToSend = objectMapper.readValue(outbox.getPayload(), PartEvent.class);
-                    topicName = TOPIC_PART; // Part 토픽
-                    break;
-
-                case "PART_GROUP":
-                    PartGroupEvent.Payload groupPayload = objectMapper.readValue(outbox.getPayload(), PartGroupEvent.Payload.class);
-                    eventToSend = PartGroupEvent.builder()
-                            .eventId(outbox.getEventId())
-                            .eventType(outbox.getEventType())
-                            .version(outbox.getVersion())
-                            .occurredAt(outbox.getOccurredAt().toString())
-                            .payload(groupPayload)
-                            .build();
-                    topicName = TOPIC_PART_GROUP;
-                    break;
-
-                case "PART_CATEGORY":
-                    PartCategoryEvent.Payload categoryPayload = objectMapper.readValue(outbox.getPayload(), PartCategoryEvent.Payload.class);
-                    eventToSend = PartCategoryEvent.builder()
-                            .eventId(outbox.getEventId())
-                            .eventType(outbox.getEventType())
-                            .version(outbox.getVersion())
-                            .occurredAt(outbox.getOccurredAt().toString())
-                            .payload(categoryPayload)
-                            .build();
-                    topicName = TOPIC_PART_CATEGORY;
-                    break;
-
-                case "BOM":
-                    BomEvent.Payload bomPayload =
-                            objectMapper.readValue(outbox.getPayload(), BomEvent.Payload.class);
-                    eventToSend = BomEvent.builder()
-                            .eventId(outbox.getEventId())
-                            .eventType(outbox.getEventType())
-                            .version(outbox.getVersion())
-                            .occurredAt(outbox.getOccurredAt().toString())
-                            .payload(bomPayload)
-                            .build();
-                    topicName = TOPIC_BOM;
-                    break;
-
-                case "MATERIAL":
-                    // 전체 MaterialEvent 객체를 직접 역직렬화
-                    eventToSend = objectMapper.readValue(outbox.getPayload(), com.sampoom.backend.api.material.event.dto.MaterialEvent.class);
-                    topicName = TOPIC_MATERIAL;
-                    break;
-
-                case "MATERIAL_CATEGORY":
-                    MaterialCategoryEvent.Payload materialCategoryPayload = objectMapper.readValue(outbox.getPayload(),  MaterialCategoryEvent.Payload.class);
-                    eventToSend = com.sampoom.backend.api.material.event.dto.MaterialCategoryEvent.builder()
-                            .eventId(outbox.getEventId())
-                            .eventType(outbox.getEventType())
-                            .version(outbox.getVersion())
-                            .occurredAt(outbox.getOccurredAt().toString())
-                            .payload(materialCategoryPayload)
-                            .build();
-                    topicName = TOPIC_MATERIAL_CATEGORY;
-                    break;
-
-
-                default:
-                    throw new IllegalStateException("알 수 없는 AggregateType: " + outbox.getAggregateType());
-            }
-
             // Kafka 발행 (동기식 처리)
             // Kafka가 "잘 받았다"고 응답할 때까지 10초간 기다립니다.
-            kafkaTemplate.send(topicName, eventKey, eventToSend).get(10, TimeUnit.SECONDS);
+            send(outbox).get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            outboxMetrics.recordSend(outbox, System.nanoTime() - startNanos, true);
 
             // 발행 성공 시 처리 (같은 트랜잭션)
             outbox.markPublished();
@@ -122,9 +72,189 @@ public class OutboxEventProcessor {
 
         } catch (Exception e) {
             // Kafka 발행 실패 또는 DB 업데이트 실패 시
-            outbox.markFailed();
+            outboxMetrics.recordSend(outbox, System.nanoTime() - startNanos, false);
+            outboxService.markFailed(outbox, LocalDateTime.now());
             outboxRepository.save(outbox);
             log.error("[OutboxEvent] 발행 실패 (FAILED 처리): eventId={}, reason={}", outbox.getEventId(), e.getMessage());
         }
     }
+
+    /**
+     * 점유한 배치를 비동기로 한꺼번에 발행하고, 결과를 벌크 UPDATE로 반영
+     * - 서로 다른 aggregate는 응답을 기다리지 않고 동시에 전송
+     * - 같은 aggregate는 이전 이벤트의 응답을 받은 뒤에 다음 이벤트를 전송 (순서 보장)
+     * - 같은 aggregate에서 실패가 나면 뒤따르는 이벤트는 전송하지 않고 점유만 해제 (다음 주기에 순서대로 재시도)
+     * @return 발행에 실패한 이벤트 수
+     */
+    public int publishBatch(List<Outbox> events) {
+        // 배치 내 순서를 유지한 채 aggregate별로 묶기
+        Map<String, List<Outbox>> byAggregate = new LinkedHashMap<>();
+        for (Outbox outbox : events) {
+            byAggregate.computeIfAbsent(aggregateKey(outbox), key -> new ArrayList<>()).add(outbox);
+        }
+
+        BatchResult result = new BatchResult();
+        CompletableFuture<?>[] chains = byAggregate.values().stream()
+                .map(aggregateEvents -> sendInOrder(aggregateEvents, 0, result))
+                .toArray(CompletableFuture[]::new);
+
+        // 모든 전송에 타임아웃이 걸려 있으므로 무한 대기하지 않음
+        CompletableFuture.allOf(chains).join();
+
+        outboxService.applyPublishResults(result.published, result.failed, result.skipped);
+
+        log.info("[OutboxEvent] 배치 발행 완료: 성공={}, 실패={}, 보류={}",
+                result.published.size(), result.failed.size(), result.skipped.size());
+
+        return result.failed.size();
+    }
+
+    private CompletableFuture<Void> sendInOrder(List<Outbox> aggregateEvents, int index, BatchResult result) {
+        if (index >= aggregateEvents.size()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        Outbox outbox = aggregateEvents.get(index);
+        long startNanos = System.nanoTime();
+
+        CompletableFuture<?> sent;
+        try {
+            sent = send(outbox);
+        } catch (Exception e) {
+            sent = CompletableFuture.failedFuture(e);
+        }
+
+        // 다음 전송은 Kafka 콜백 스레드가 아닌 별도 스레드에서 수행
+        return sent.orTimeout(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .handle((sendResult, ex) -> {
+                    outboxMetrics.recordSend(outbox, System.nanoTime() - startNanos, ex == null);
+                    return ex;
+                })
+                .thenComposeAsync(ex -> {
+                    if (ex == null) {
+                        result.published.add(outbox.getId());
+                        return sendInOrder(aggregateEvents, index + 1, result);
+                    }
+
+                    log.error("[OutboxEvent] 발행 실패 (FAILED 처리): eventId={}, reason={}", outbox.getEventId(), ex.getMessage());
+                    result.failed.add(outbox.getId());
+                    for (Outbox pending : aggregateEvents.subList(index + 1, aggregateEvents.size())) {
+                        result.skipped.add(pending.getId());
+                    }
+                    return CompletableFuture.completedFuture(null);
+                });
+    }
+
+    /**
+     * Outbox 한 건을 Kafka로 전송
+     * - envelope가 있으면 저장된 바이트를 그대로 전송 (직렬화 없음)
+     * - envelope가 없는 이전 형식 행은 payload를 역직렬화해 이벤트를 다시 구성
+     */
+    private CompletableFuture<?> send(Outbox outbox) throws Exception {
+        String topicName = topicOf(outbox.getAggregateType());
+        String eventKey = outbox.getAggregateId().toString();
+
+        if (outbox.getEnvelope() != null) {
+            ProducerRecord<String, byte[]> record = new ProducerRecord<>(topicName, eventKey, outbox.getEnvelope());
+            // 기존 JsonSerializer와 같은 타입 헤더를 붙여 컨슈머의 역직렬화 방식이 바뀌지 않도록 함
+            record.headers().add(new RecordHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME,
+                    eventClassOf(outbox.getAggregateType()).getName().getBytes(StandardCharsets.UTF_8)));
+            return outboxKafkaTemplate.send(record);
+        }
+
+        return kafkaTemplate.send(topicName, eventKey, toLegacyEvent(outbox));
+    }
+
+    private static String topicOf(String aggregateType) {
+        return switch (aggregateType) {
+            case "PART" -> TOPIC_PART;
+            case "PART_GROUP" -> TOPIC_PART_GROUP;
+            case "PART_CATEGORY" -> TOPIC_PART_CATEGORY;
+            case "BOM" -> TOPIC_BOM;
+            case "MATERIAL" -> TOPIC_MATERIAL;
+            case "MATERIAL_CATEGORY" -> TOPIC_MATERIAL_CATEGORY;
+            default -> throw new IllegalStateException("알 수 없는 AggregateType: " + aggregateType);
+        };
+    }
+
+    private static Class<?> eventClassOf(String aggregateType) {
+        return switch (aggregateType) {
+            case "PART" -> PartEvent.class;
+            case "PART_GROUP" -> PartGroupEvent.class;
+            case "PART_CATEGORY" -> PartCategoryEvent.class;
+            case "BOM" -> BomEvent.class;
+            case "MATERIAL" -> MaterialEvent.class;
+            case "MATERIAL_CATEGORY" -> MaterialCategoryEvent.class;
+            default -> throw new IllegalStateException("알 수 없는 AggregateType: " + aggregateType);
+        };
+    }
+
+    /**
+     * 이전 형식 행: AggregateType에 따라 DTO 역질렬화 및 이벤트 구성
+     */
+    private Object toLegacyEvent(Outbox outbox) throws Exception {
+        switch (outbox.getAggregateType()) {
+            case "PART":
+                return objectMapper.readValue(outbox.getPayload(), PartEvent.class);
+
+            case "PART_GROUP":
+                PartGroupEvent.Payload groupPayload = objectMapper.readValue(outbox.getPayload(), PartGroupEvent.Payload.class);
+                return PartGroupEvent.builder()
+                        .eventId(outbox.getEventId())
+                        .eventType(outbox.getEventType())
+                        .version(outbox.getVersion())
+                        .occurredAt(outbox.getOccurredAt().toString())
+                        .payload(groupPayload)
+                        .build();
+
+            case "PART_CATEGORY":
+                PartCategoryEvent.Payload categoryPayload = objectMapper.readValue(outbox.getPayload(), PartCategoryEvent.Payload.class);
+                return PartCategoryEvent.builder()
+                        .eventId(outbox.getEventId())
+                        .eventType(outbox.getEventType())
+                        .version(outbox.getVersion())
+                        .occurredAt(outbox.getOccurredAt().toString())
+                        .payload(categoryPayload)
+                        .build();
+
+            case "BOM":
+                BomEvent.Payload bomPayload =
+                        objectMapper.readValue(outbox.getPayload(), BomEvent.Payload.class);
+                return BomEvent.builder()
+                        .eventId(outbox.getEventId())
+                        .eventType(outbox.getEventType())
+                        .version(outbox.getVersion())
+                        .occurredAt(outbox.getOccurredAt().toString())
+                        .payload(bomPayload)
+                        .build();
+
+            case "MATERIAL":
+                // 전체 MaterialEvent 객체를 직접 역직렬화
+                return objectMapper.readValue(outbox.getPayload(), MaterialEvent.class);
+
+            case "MATERIAL_CATEGORY":
+                MaterialCategoryEvent.Payload materialCategoryPayload = objectMapper.readValue(outbox.getPayload(),  MaterialCategoryEvent.Payload.class);
+                return MaterialCategoryEvent.builder()
+                        .eventId(outbox.getEventId())
+                        .eventType(outbox.getEventType())
+                        .version(outbox.getVersion())
+                        .occurredAt(outbox.getOccurredAt().toString())
+                        .payload(materialCategoryPayload)
+                        .build();
+
+            default:
+                throw new IllegalStateException("알 수 없는 AggregateType: " + outbox.getAggregateType());
+        }
+    }
+
+    private static String aggregateKey(Outbox outbox) {
+        return outbox.getAggregateType() + ":" + outbox.getAggregateId();
+    }
+
+    // 배치 발행 결과 (콜백 스레드에서 동시에 추가됨)
+    private static class BatchResult {
+        private final List<Long> published = Collections.synchronizedList(new ArrayList<>());
+        private final List<Long> failed = Collections.synchronizedList(new ArrayList<>());
+        private final List<Long> skipped = Collections.synchronizedList(new ArrayList<>());
+    }
 }
@@ -1,14 +1,25 @@
 package com.sampoom.backend.common.outbox.service;
 
+import com.sampoom.backend.common.outbox.dto.OutboxClaimResult;
 import com.sampoom.backend.common.outbox.entity.Outbox;
-import com.sampoom.backend.common.outbox.repository.OutboxRepository;
 import com.sampoom.backend.common.outbox.entity.OutboxStatus;
+import com.sampoom.backend.common.outbox.event.OutboxSavedEvent;
+import com.sampoom.backend.common.outbox.metrics.OutboxMetrics;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 
 
 @Slf4j
@@ -16,38 +27,100 @@ import java.util.List;
 @RequiredArgsConstructor
 public class OutboxPublisher {
 
-    private final OutboxRepository outboxRepository;
-    private final OutboxEventProcessor outboxEventProcessor;
+    private final OutboxService outboxService;
+    private final OutboxRelayLanes outboxRelayLanes;
+    private final OutboxRetryPolicy outboxRetryPolicy;
+    private final OutboxMetrics outboxMetrics;
 
-    // 최대 재시도 횟수
-    private static final int MAX_RETRY_COUNT = 10;
+    // 한 번에 점유해서 발행할 최대 이벤트 수
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    // 배치 안에서 같은 aggregate의 중복 스냅샷 이벤트를 최신 것 하나로 합칠지 여부
+    @Value("${outbox.relay.coalesce:true}")
+    private boolean coalesce;
+
+    // 점유 유지 시간 (이 시간 안에 발행 결과가 반영되지 않으면 다시 발행 대상이 됨)
+    @Value("${outbox.relay.claim-timeout-seconds:300}")
+    private long claimTimeoutSeconds;
+
+    // 커밋 알림으로 깨어난 릴레이를 실행하는 스레드
+    private final ExecutorService wakeUpExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "outbox-relay-wakeup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 이미 실행 대기 중인 깨우기 요청이 있으면 중복으로 쌓지 않음
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean(false);
+
+    // 주기 폴링과 커밋 트리거가 동시에 발행하면 같은 aggregate의 순서가 뒤바뀔 수 있으므로 한 번에 하나만 실행
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    /**
+     * 비즈니스 트랜잭션 커밋 직후 릴레이를 깨움 (폴링 주기를 기다리지 않고 바로 발행)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOutboxSaved(OutboxSavedEvent event) {
+        if (wakeUpPending.compareAndSet(false, true)) {
+            wakeUpExecutor.execute(() -> {
+                wakeUpPending.set(false);
+                drain();
+            });
+        }
+    }
 
     /**
-     * READY와 FAILED 상태 Outbox를 5초마다 Kafka로 발행 (최대 10번 재시도)
+     * 커밋 트리거에서 누락된 READY Outbox와 재시도 시각이 된 FAILED Outbox를 주기적으로 발행 (안전망)
+     * - 실패한 이벤트의 재시도는 이 주기로만 실행되므로 재시도 백오프(초기 1초)보다 너무 길게 잡지 않음
      */
-    @Scheduled(fixedDelay = 5000)
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:5000}")
     public void publishReadyAndFailedEvents() {
-        // READY 상태와 재시도 횟수가 10회 미만인 FAILED 상태 이벤트 조회
-        List<Outbox> events = outboxRepository.findTop10ByStatusReadyOrFailedWithRetryLimitOrderByCreatedAtAsc(MAX_RETRY_COUNT);
+        drain();
+    }
 
-        if (events.isEmpty()) return;
+    @PreDestroy
+    void shutdown() {
+        wakeUpExecutor.shutdown();
+    }
 
-        log.info("[OutboxPublisher] 발행할 이벤트 {}개 발견 (READY + FAILED 재시도 대상)", events.size());
+    /**
+     * 발행 대상이 batchSize보다 적게 남을 때까지 점유 → 발행을 반복
+     * - 계속 여부는 순서 보장으로 보류된 행을 빼기 전 후보 수로 판단 (보류가 섞여도 적체를 이어서 발행)
+     * - 실패가 난 배치 뒤에는 멈추고 다음 주기(또는 커밋 알림)를 기다림
+     *   (브로커 장애 중에 같은 배치를 바로 다시 점유해 재시도 횟수를 한꺼번에 소모하지 않도록)
+     */
+    private void drain() {
+        drainLock.lock();
+        try {
+            OutboxClaimResult claim;
+            int failed;
+            do {
+                // READY 상태와 재시도 시각이 된 FAILED 상태 이벤트를 batchSize개까지 점유
+                claim = outboxService.claimPublishableEvents(
+                        outboxRetryPolicy.getMaxRetryCount(), batchSize, Duration.ofSeconds(claimTimeoutSeconds));
+                List<Outbox> claimed = claim.getEvents();
 
-        for (Outbox outbox : events) {
-            try {
-                // 재시도 로그 출력
-                if (outbox.getStatus() == OutboxStatus.FAILED) {
-                    log.info("[OutboxPublisher] FAILED 이벤트 재시도: eventId={}, retryCount={}/{}",
-                            outbox.getEventId(), outbox.getRetryCount(), MAX_RETRY_COUNT);
-                }
+                if (claimed.isEmpty()) return;
+
+                // 연쇄 재계산 등으로 쌓인 같은 aggregate의 중복 스냅샷은 최신 것만 발행
+                List<Outbox> events = coalesce ? outboxService.coalesce(claimed) : claimed;
+                outboxMetrics.recordBatch(claimed.size(), claimed.size() - events.size());
 
-                // 개별 트랜잭션으로 처리하기 위해 public 메서드 호출
-                outboxEventProcessor.processAndPublishEvent(outbox);
-            } catch (Exception e) {
-                log.error("[OutboxPublisher] 이벤트 처리 중 심각한 오류 발생 (트랜잭션 롤백됨): eventId={}, reason={}",
-                        outbox.getEventId(), e.getMessage());
-            }
+                long retryCount = events.stream().filter(outbox -> outbox.getStatus() == OutboxStatus.FAILED).count();
+                log.info("[OutboxPublisher] 발행할 이벤트 {}개 발견 (FAILED 재시도 대상 {}개, 최대 {}회)",
+                        events.size(), retryCount, outboxRetryPolicy.getMaxRetryCount());
+
+                // aggregate 기준으로 레인을 나눠 동시에 발행 (같은 aggregate는 같은 레인에서 순서대로)
+                failed = outboxRelayLanes.dispatch(events);
+                if (failed > 0) {
+                    log.warn("[OutboxPublisher] 발행 실패 {}건 - 이번 드레인을 멈추고 다음 주기에 재시도", failed);
+                }
+            } while (claim.isFull() && failed == 0);
+        } catch (Exception e) {
+            log.error("[OutboxPublisher] Outbox 발행 중 오류 발생: reason={}", e.getMessage());
+        } finally {
+            drainLock.unlock();
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,187 @@
+package com.sampoom.backend.common.outbox.service;
+
+import com.sampoom.backend.common.outbox.entity.Outbox;
+import com.sampoom.backend.common.outbox.entity.OutboxStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Outbox 발행 레인
+ * - aggregateType + aggregateId 해시로 레인을 정해, 같은 aggregate는 항상 같은 레인에서 순서대로 발행
+ * - 서로 다른 레인은 동시에 발행
+ * - 레인별 대기 이벤트 수와 지연(가장 오래된 이벤트의 나이)을 메트릭으로 노출
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelayLanes {
+
+    private final OutboxEventProcessor outboxEventProcessor;
+    private final OutboxService outboxService;
+    private final MeterRegistry meterRegistry;
+
+    // 레인(워커 스레드) 수
+    @Value("${outbox.relay.lanes:4}")
+    private int laneCount;
+
+    // true: 배치 단위 비동기 발행 후 일괄 반영 / false: 이벤트마다 동기 발행
+    @Value("${outbox.relay.pipelined:true}")
+    private boolean pipelined;
+
+    private ExecutorService[] executors;
+    private AtomicInteger[] pending;
+    private AtomicLong[] lagMillis;
+
+    @PostConstruct
+    void init() {
+        executors = new ExecutorService[laneCount];
+        pending = new AtomicInteger[laneCount];
+        lagMillis = new AtomicLong[laneCount];
+
+        for (int i = 0; i < laneCount; i++) {
+            final String lane = String.valueOf(i);
+            executors[i] = Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, "outbox-lane-" + lane);
+                thread.setDaemon(true);
+                return thread;
+            });
+            pending[i] = new AtomicInteger();
+            lagMillis[i] = new AtomicLong();
+
+            Gauge.builder("outbox.relay.lane.pending", pending[i], AtomicInteger::get)
+                    .description("레인에서 발행 대기 중인 이벤트 수")
+                    .tag("lane", lane)
+                    .register(meterRegistry);
+            TimeGauge.builder("outbox.relay.lane.lag", lagMillis[i], TimeUnit.MILLISECONDS, AtomicLong::get)
+                    .description("레인에 배정된 가장 오래된 이벤트의 생성 후 경과 시간")
+                    .tag("lane", lane)
+                    .register(meterRegistry);
+        }
+
+        log.info("[OutboxRelayLanes] 레인 {}개로 시작 (pipelined={})", laneCount, pipelined);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (ExecutorService executor : executors) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 점유한 이벤트를 레인별로 나눠 동시에 발행하고, 모든 레인이 끝날 때까지 대기
+     * @return 발행에 실패한 이벤트 수 (결과 반영에 실패한 레인은 레인의 이벤트 전체를 실패로 셈)
+     */
+    public int dispatch(List<Outbox> events) {
+        List<List<Outbox>> laneEvents = new ArrayList<>(laneCount);
+        for (int i = 0; i < laneCount; i++) {
+            laneEvents.add(new ArrayList<>());
+        }
+        for (Outbox outbox : events) {
+            laneEvents.get(laneOf(outbox)).add(outbox);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<CompletableFuture<Integer>> running = new ArrayList<>();
+
+        for (int i = 0; i < laneCount; i++) {
+            List<Outbox> assigned = laneEvents.get(i);
+            lagMillis[i].set(oldestAgeMillis(assigned, now));
+            if (assigned.isEmpty()) continue;
+
+            final int lane = i;
+            pending[lane].addAndGet(assigned.size());
+            running.add(CompletableFuture.supplyAsync(() -> publishLane(lane, assigned), executors[lane]));
+        }
+
+        CompletableFuture.allOf(running.toArray(new CompletableFuture[0])).join();
+
+        return running.stream().mapToInt(CompletableFuture::join).sum();
+    }
+
+    // 레인의 이벤트를 발행하고 실패한 이벤트 수를 반환
+    private int publishLane(int lane, List<Outbox> assigned) {
+        try {
+            if (pipelined) {
+                return outboxEventProcessor.publishBatch(assigned);
+            }
+
+            // 앞선 이벤트가 실패한 aggregate의 뒤 이벤트는 보내지 않고 점유만 해제 (재시도 시 순서대로 발행)
+            Set<String> failedAggregates = new HashSet<>();
+            List<Long> skipped = new ArrayList<>();
+            int failedCount = 0;
+
+            for (Outbox outbox : assigned) {
+                String aggregateKey = outbox.getAggregateType() + ":" + outbox.getAggregateId();
+                if (failedAggregates.contains(aggregateKey)) {
+                    skipped.add(outbox.getId());
+                    continue;
+                }
+
+                try {
+                    // 재시도 로그 출력
+                    if (outbox.getStatus() == OutboxStatus.FAILED) {
+                        log.info("[OutboxRelayLanes] FAILED 이벤트 재시도: lane={}, eventId={}, retryCount={}",
+                                lane, outbox.getEventId(), outbox.getRetryCount());
+                    }
+
+                    // 개별 트랜잭션으로 처리하기 위해 public 메서드 호출
+                    outboxEventProcessor.processAndPublishEvent(outbox);
+                    if (outbox.getStatus() != OutboxStatus.PUBLISHED) {
+                        failedAggregates.add(aggregateKey);
+                        failedCount++;
+                    }
+                } catch (Exception e) {
+                    failedAggregates.add(aggregateKey);
+                    failedCount++;
+                    log.error("[OutboxRelayLanes] 이벤트 처리 중 심각한 오류 발생 (트랜잭션 롤백됨): eventId={}, reason={}",
+                            outbox.getEventId(), e.getMessage());
+                }
+            }
+
+            if (!skipped.isEmpty()) {
+                outboxService.applyPublishResults(List.of(), List.of(), skipped);
+            }
+            return failedCount;
+        } catch (Exception e) {
+            // 결과 반영에 실패한 이벤트는 점유 만료 후 다시 발행 대상이 됨
+            log.error("[OutboxRelayLanes] 레인 {} 발행 결과 반영 실패: reason={}", lane, e.getMessage());
+            return assigned.size();
+        } finally {
+            pending[lane].addAndGet(-assigned.size());
+        }
+    }
+
+    private int laneOf(Outbox outbox) {
+        return Math.floorMod((outbox.getAggregateType() + outbox.getAggregateId()).hashCode(), laneCount);
+    }
+
+    private static long oldestAgeMillis(List<Outbox> events, LocalDateTime now) {
+        return events.stream()
+                .map(Outbox::getCreatedAt)
+                .filter(createdAt -> createdAt != null)
+                .min(LocalDateTime::compareTo)
+                .map(oldest -> Duration.between(oldest, now).toMillis())
+                .orElse(0L);
+    }
+}
@@ -0,0 +1,56 @@
+package com.sampoom.backend.common.outbox.service;
+
+import com.sampoom.backend.common.outbox.dto.OutboxChunkResult;
+import com.sampoom.backend.common.outbox.entity.Outbox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * 전체 재발행(Part/Material/BOM 배치 서비스) 공통 처리
+ * - 청크 단위 Outbox 대량 저장 + 커밋 후 릴레이 깨우기
+ * - 처음부터 끝까지 청크를 반복하며 진행 상황 로그
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRepublisher {
+
+    private final OutboxService outboxService;
+
+    /**
+     * 청크의 Outbox를 한 번에 저장 (호출한 트랜잭션 안에서 실행, 커밋 후 릴레이를 깨움)
+     */
+    public OutboxChunkResult saveChunk(List<Outbox> outboxes, int readCount, Long lastId) {
+        outboxService.saveAll(outboxes);
+        return new OutboxChunkResult(readCount, lastId);
+    }
+
+    /**
+     * id 0부터 마지막 청크까지 반복 실행
+     * @param chunkPublisher (lastId, chunkSize) -> 청크 처리 결과
+     * @return 처리한 행 수
+     */
+    public long publishAll(String name, long total, int chunkSize,
+                           BiFunction<Long, Integer, OutboxChunkResult> chunkPublisher) {
+        long processed = 0;
+        Long lastId = 0L;
+
+        while (true) {
+            OutboxChunkResult result = chunkPublisher.apply(lastId, chunkSize);
+            if (result.getCount() == 0) break;
+
+            processed += result.getCount();
+            lastId = result.getLastId();
+            log.info("[OutboxRepublisher] {} 재발행 진행: {}/{}건 (lastId={})", name, processed, total, lastId);
+
+            if (result.getCount() < chunkSize) break;
+        }
+
+        log.info("✅ 모든 {} 이벤트 Outbox 등록 완료 ({}건)", name, processed);
+        return processed;
+    }
+}
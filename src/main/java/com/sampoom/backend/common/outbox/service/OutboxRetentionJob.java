@@ -0,0 +1,74 @@
+package com.sampoom.backend.common.outbox.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * PUBLISHED Outbox 보존 기간 관리 배치
+ * - 보존 기간이 지난 행을 청크 단위로 outbox_archive로 옮기고 outbox에서 삭제
+ * - 청크마다 트랜잭션을 나눠 긴 잠금 없이 처리
+ */
+@Slf4j
+@Component
+public class OutboxRetentionJob {
+
+    private final OutboxRetentionService outboxRetentionService;
+    private final Counter archivedCounter;
+    private final DistributionSummary archivedPerRun;
+
+    @Value("${outbox.retention.enabled:true}")
+    private boolean enabled;
+
+    // 발행 후 outbox에 남겨둘 기간 (일)
+    @Value("${outbox.retention.published-days:7}")
+    private long publishedDays;
+
+    // 한 트랜잭션에서 옮길 최대 행 수
+    @Value("${outbox.retention.chunk-size:1000}")
+    private int chunkSize;
+
+    // 한 번 실행에서 처리할 최대 청크 수 (남은 행은 다음 실행에서 처리)
+    @Value("${outbox.retention.max-chunks-per-run:100}")
+    private int maxChunksPerRun;
+
+    public OutboxRetentionJob(OutboxRetentionService outboxRetentionService, MeterRegistry meterRegistry) {
+        this.outboxRetentionService = outboxRetentionService;
+        this.archivedCounter = Counter.builder("outbox.retention.archived")
+                .description("보관 테이블로 옮긴 Outbox 행 수 (누적)")
+                .register(meterRegistry);
+        this.archivedPerRun = DistributionSummary.builder("outbox.retention.archived.per.run")
+                .description("실행 1회당 보관 테이블로 옮긴 Outbox 행 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${outbox.retention.cron:0 0 3 * * *}")
+    public void archivePublishedEvents() {
+        if (!enabled) return;
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(publishedDays);
+        int total = 0;
+
+        try {
+            for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+                int archived = outboxRetentionService.archivePublishedChunk(cutoff, chunkSize);
+                total += archived;
+                archivedCounter.increment(archived);
+
+                if (archived < chunkSize) break;
+            }
+        } catch (Exception e) {
+            log.error("[OutboxRetention] 보관 처리 중 오류 발생 ({}건 처리 후 중단): reason={}", total, e.getMessage());
+        } finally {
+            archivedPerRun.record(total);
+        }
+
+        log.info("[OutboxRetention] {} 이전 발행된 Outbox {}건 보관 완료", cutoff, total);
+    }
+}
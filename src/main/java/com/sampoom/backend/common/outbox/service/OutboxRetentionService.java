@@ -0,0 +1,36 @@
+package com.sampoom.backend.common.outbox.service;
+
+import com.sampoom.backend.common.outbox.entity.OutboxStatus;
+import com.sampoom.backend.common.outbox.repository.OutboxArchiveRepository;
+import com.sampoom.backend.common.outbox.repository.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxRetentionService {
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxArchiveRepository outboxArchiveRepository;
+
+    /**
+     * cutoff 이전에 발행(또는 대체)된 Outbox를 최대 chunkSize개 보관 테이블로 이동 (청크마다 짧은 트랜잭션)
+     * @return 이동한 행 수
+     */
+    @Transactional
+    public int archivePublishedChunk(LocalDateTime cutoff, int chunkSize) {
+        List<Long> ids = outboxRepository.findArchivableIds(
+                List.of(OutboxStatus.PUBLISHED, OutboxStatus.SUPERSEDED), cutoff, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        outboxArchiveRepository.copyFromOutbox(ids, LocalDateTime.now());
+        return outboxRepository.deleteByIds(ids);
+    }
+}
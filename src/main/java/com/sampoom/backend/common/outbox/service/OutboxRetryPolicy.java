@@ -0,0 +1,44 @@
+package com.sampoom.backend.common.outbox.service;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 발행 실패한 Outbox의 재시도 시각 계산 (지수 백오프 + 지터)
+ * - 실패할 때마다 대기 시간을 multiplier배로 늘리되 maxDelay를 넘지 않음
+ * - 대기 시간의 절반 ~ 전체 구간에서 무작위로 골라 여러 이벤트가 동시에 재시도되지 않도록 분산
+ */
+@Getter
+@Component
+public class OutboxRetryPolicy {
+
+    // 이 횟수만큼 실패하면 DEAD_LETTER로 전환
+    @Value("${outbox.retry.max-attempts:10}")
+    private int maxRetryCount;
+
+    @Value("${outbox.retry.initial-delay-ms:1000}")
+    private long initialDelayMillis;
+
+    @Value("${outbox.retry.multiplier:2.0}")
+    private double multiplier;
+
+    @Value("${outbox.retry.max-delay-ms:600000}")
+    private long maxDelayMillis;
+
+    /**
+     * failedAttempts번째 실패 이후의 다음 재시도 시각
+     */
+    public LocalDateTime nextAttemptAt(int failedAttempts, LocalDateTime now) {
+        double exponential = initialDelayMillis * Math.pow(multiplier, Math.max(failedAttempts - 1, 0));
+        long delay = (long) Math.min(exponential, maxDelayMillis);
+
+        long half = delay / 2;
+        long jittered = half + ThreadLocalRandom.current().nextLong(delay - half + 1);
+
+        return now.plusNanos(jittered * 1_000_000L);
+    }
+}
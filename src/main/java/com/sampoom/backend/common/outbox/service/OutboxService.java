@@ -1,17 +1,37 @@
 package com.sampoom.backend.common.outbox.service;
 
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sampoom.backend.common.outbox.dto.OutboxClaimResult;
+import com.sampoom.backend.common.outbox.dto.OutboxEnvelope;
+import com.sampoom.backend.common.outbox.dto.OutboxEventRequest;
 import com.sampoom.backend.common.outbox.entity.Outbox;
+import com.sampoom.backend.common.outbox.event.OutboxSavedEvent;
+import com.sampoom.backend.common.outbox.repository.OutboxJdbcRepository;
 import com.sampoom.backend.common.outbox.repository.OutboxRepository;
 import com.sampoom.backend.common.outbox.entity.OutboxStatus;
 import com.sampoom.backend.common.exception.BadRequestException;
 import com.sampoom.backend.common.response.ErrorStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
 
 @Slf4j
 @Service
@@ -19,7 +39,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class OutboxService {
 
     private final OutboxRepository outboxRepository;
+    private final OutboxJdbcRepository outboxJdbcRepository;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxRetryPolicy outboxRetryPolicy;
 
     /**
      * Outbox 테이블에 이벤트 저장 (트랜잭션 내)
@@ -30,27 +53,222 @@ public class OutboxService {
         log.debug("Saving event to outbox: type={}, aggregateId={}", eventType, aggregateId);
 
         try {
-            // 1. payload DTO를 JSON 문자열로 직렬화
-            String payloadJson = objectMapper.writeValueAsString(payloadData);
-
-            // 2. Outbox 엔티티 생성
-            Outbox outbox = Outbox.builder()
-                    .aggregateType(aggregateType)
-                    .aggregateId(aggregateId)
-                    .eventType(eventType)
-                    .payload(payloadJson)
-                    .version(version)
-                    .status(OutboxStatus.READY)
-                    .retryCount(0)
-                    .build();
-            // (eventId, occurredAt은 Outbox 엔티티의 @PrePersist가 자동으로 처리)
+            // 1~2. 최종 이벤트 형식(envelope)으로 한 번만 직렬화한 Outbox 엔티티 생성
+            Outbox outbox = newOutbox(aggregateType, aggregateId, eventType, version, payloadData);
 
             // 3. Outbox 테이블에 저장
             outboxRepository.save(outbox);
 
+            // 4. 커밋 후 릴레이를 바로 깨우도록 알림 (OutboxPublisher가 AFTER_COMMIT에서 수신)
+            eventPublisher.publishEvent(new OutboxSavedEvent(aggregateType, aggregateId));
+
         } catch (Exception e) {
             log.error("Outbox 이벤트 저장 실패 (메인 트랜잭션 롤백됨): {}", e.getMessage(), e);
             throw new BadRequestException(ErrorStatus.INTERNAL_SERVER_ERROR);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 여러 이벤트를 Outbox 테이블에 한 번에 저장 (트랜잭션 내)
+     * - JDBC batch insert로 저장하므로 이벤트 수와 관계없이 왕복 횟수가 적음
+     * - 연쇄 재계산/재발행처럼 한 트랜잭션에서 이벤트가 많이 생기는 경로에서 사용
+     */
+    @Transactional
+    public void saveEvents(List<OutboxEventRequest> requests) {
+        if (requests.isEmpty()) {
+            return;
+        }
+
+        log.debug("Saving {} events to outbox", requests.size());
+
+        try {
+            List<Outbox> outboxes = new ArrayList<>(requests.size());
+            for (OutboxEventRequest request : requests) {
+                outboxes.add(newOutbox(request.getAggregateType(), request.getAggregateId(),
+                        request.getEventType(), request.getVersion(), request.getPayload()));
+            }
+
+            saveAll(outboxes);
+
+        } catch (Exception e) {
+            log.error("Outbox 이벤트 대량 저장 실패 (메인 트랜잭션 롤백됨): {}", e.getMessage(), e);
+            throw new BadRequestException(ErrorStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 이미 만든 Outbox 엔티티들을 JDBC batch insert로 저장하고, 커밋 후 릴레이를 깨움
+     */
+    @Transactional
+    public void saveAll(List<Outbox> outboxes) {
+        if (outboxes.isEmpty()) {
+            return;
+        }
+
+        outboxJdbcRepository.batchInsert(outboxes);
+
+        Outbox last = outboxes.get(outboxes.size() - 1);
+        eventPublisher.publishEvent(new OutboxSavedEvent(last.getAggregateType(), last.getAggregateId()));
+    }
+
+    /**
+     * Kafka로 나갈 최종 이벤트(envelope)를 바이트로 직렬화해 담은 Outbox 엔티티 생성 (저장은 하지 않음)
+     * - 릴레이는 envelope 바이트를 그대로 전송하므로 발행 시점의 역직렬화/재직렬화가 필요 없음
+     */
+    public Outbox newOutbox(String aggregateType, Long aggregateId, String eventType, Long version, Object payloadData)
+            throws JsonProcessingException {
+        String eventId = UUID.randomUUID().toString();
+        OffsetDateTime occurredAt = OffsetDateTime.now();
+
+        OutboxEnvelope envelope = OutboxEnvelope.builder()
+                .eventId(eventId)
+                .eventType(eventType)
+                .version(version)
+                .occurredAt(occurredAt.toString())
+                .payload(payloadData)
+                .build();
+
+        return Outbox.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .envelope(objectMapper.writeValueAsBytes(envelope))
+                .eventId(eventId)
+                .occurredAt(occurredAt)
+                .version(version)
+                .status(OutboxStatus.READY)
+                .retryCount(0)
+                .build();
+    }
+
+    /**
+     * 발행 대상 Outbox를 최대 batchSize개 점유 (짧은 트랜잭션)
+     * - 행 잠금(SKIP LOCKED)으로 여러 인스턴스가 같은 행을 동시에 가져가지 않음
+     * - 커밋 후에는 claimedUntil로 점유가 유지되며, 발행 결과 반영 시 해제됨
+     * - full: 보류로 빠진 행과 상관없이 후보가 batchSize만큼 찼는지 (릴레이가 이어서 점유할지 판단)
+     */
+    @Transactional
+    public OutboxClaimResult claimPublishableEvents(int maxRetryCount, int batchSize, Duration claimTimeout) {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Outbox> candidates = outboxRepository.findClaimableEvents(maxRetryCount, now, PageRequest.of(0, batchSize));
+        List<Outbox> events = excludeOutOfOrder(candidates);
+
+        LocalDateTime claimedUntil = now.plus(claimTimeout);
+        events.forEach(outbox -> outbox.claim(claimedUntil));
+
+        return new OutboxClaimResult(events, candidates.size() >= batchSize);
+    }
+
+    // 같은 aggregate의 이전 미발행 이벤트가 후보에 없으면 그 이벤트와 같은 aggregate의 뒤 이벤트를 모두 제외
+    // (점유하지 않은 후보는 이 트랜잭션이 끝나면 잠금이 풀려 다음 점유 때 다시 대상이 됨)
+    private List<Outbox> excludeOutOfOrder(List<Outbox> candidates) {
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        Set<Long> blockedIds = new HashSet<>(outboxRepository.findIdsWithPendingPredecessorOutside(
+                candidates.stream().map(Outbox::getId).toList()));
+        if (blockedIds.isEmpty()) {
+            return candidates;
+        }
+
+        // aggregate별로 보류되는 가장 앞선 id (이 id 이후 이벤트는 모두 보류)
+        Map<String, Long> firstBlockedIdByAggregate = new HashMap<>();
+        for (Outbox outbox : candidates) {
+            if (blockedIds.contains(outbox.getId())) {
+                firstBlockedIdByAggregate.merge(aggregateKey(outbox), outbox.getId(), Math::min);
+            }
+        }
+
+        List<Outbox> events = new ArrayList<>(candidates.size());
+        for (Outbox outbox : candidates) {
+            Long firstBlockedId = firstBlockedIdByAggregate.get(aggregateKey(outbox));
+            if (firstBlockedId == null || outbox.getId() < firstBlockedId) {
+                events.add(outbox);
+            }
+        }
+
+        log.debug("[Outbox] 이전 이벤트가 발행 대상이 아니어서 보류: {}건", candidates.size() - events.size());
+        return events;
+    }
+
+    /**
+     * 점유한 배치 안에서 같은 aggregate의 중복 스냅샷 이벤트를 합침
+     * - 같은 aggregate에서 같은 종류의 스냅샷 이벤트(…Updated)가 연달아 있으면 마지막(최신 버전) 것만 발행
+     * - 앞선 이벤트는 SUPERSEDED로 처리 (publishedAt에 처리 시각을 기록해 보존 기간 정리 대상이 됨)
+     * - Created/Deleted 등 상태 전이 이벤트와 그 사이에 낀 이벤트는 그대로 유지
+     * @return 발행할 이벤트 (원래 순서 유지)
+     */
+    @Transactional
+    public List<Outbox> coalesce(List<Outbox> events) {
+        Map<String, Outbox> lastByAggregate = new HashMap<>();
+        Set<Long> supersededIds = new HashSet<>();
+
+        for (Outbox outbox : events) {
+            String aggregateKey = aggregateKey(outbox);
+            Outbox previous = lastByAggregate.put(aggregateKey, outbox);
+
+            if (previous != null && isSnapshotEvent(outbox) && previous.getEventType().equals(outbox.getEventType())) {
+                supersededIds.add(previous.getId());
+            }
+        }
+
+        if (supersededIds.isEmpty()) {
+            return events;
+        }
+
+        outboxRepository.markPublishedByIds(supersededIds, OutboxStatus.SUPERSEDED, LocalDateTime.now());
+        log.info("[Outbox] 중복 스냅샷 이벤트 {}건을 최신 이벤트로 대체", supersededIds.size());
+
+        return events.stream()
+                .filter(outbox -> !supersededIds.contains(outbox.getId()))
+                .toList();
+    }
+
+    private static String aggregateKey(Outbox outbox) {
+        return outbox.getAggregateType() + ":" + outbox.getAggregateId();
+    }
+
+    // payload에 aggregate 전체 상태를 담는 이벤트 (마지막 것만 보내도 컨슈머 결과가 같음)
+    private static boolean isSnapshotEvent(Outbox outbox) {
+        return outbox.getEventType() != null && outbox.getEventType().endsWith("Updated");
+    }
+
+    /**
+     * 배치 발행 결과를 반영
+     * - 성공/보류는 벌크 UPDATE로 한 번에 반영
+     * - 실패는 행마다 재시도 시각(백오프 + 지터)이 다르므로 엔티티 단위로 반영
+     */
+    @Transactional
+    public void applyPublishResults(Collection<Long> publishedIds, Collection<Long> failedIds, Collection<Long> skippedIds) {
+        if (!publishedIds.isEmpty()) {
+            outboxRepository.markPublishedByIds(publishedIds, OutboxStatus.PUBLISHED, LocalDateTime.now());
+        }
+        if (!failedIds.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            for (Outbox outbox : outboxRepository.findAllById(failedIds)) {
+                markFailed(outbox, now);
+            }
+        }
+        if (!skippedIds.isEmpty()) {
+            outboxRepository.releaseClaimsByIds(skippedIds);
+        }
+    }
+
+    /**
+     * 발행 실패 처리 (재시도 시각 지정, 최대 재시도 횟수를 넘으면 DEAD_LETTER)
+     */
+    public void markFailed(Outbox outbox, LocalDateTime now) {
+        int maxRetryCount = outboxRetryPolicy.getMaxRetryCount();
+        outbox.markFailed(maxRetryCount, outboxRetryPolicy.nextAttemptAt(outbox.getRetryCount() + 1, now));
+
+        if (outbox.getStatus() == OutboxStatus.DEAD_LETTER) {
+            log.error("[Outbox] 최대 재시도 횟수 초과로 DEAD_LETTER 처리: eventId={}, aggregate={}:{}, retryCount={}",
+                    outbox.getEventId(), outbox.getAggregateType(), outbox.getAggregateId(), outbox.getRetryCount());
+        } else {
+            log.info("[Outbox] 재시도 예약: eventId={}, retryCount={}, nextAttemptAt={}",
+                    outbox.getEventId(), outbox.getRetryCount(), outbox.getNextAttemptAt());
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.sampoom.backend.common.outbox.service;
+
+import com.sampoom.backend.api.bom.event.service.BomEventBatchService;
+import com.sampoom.backend.api.material.event.service.MaterialEventBatchService;
+import com.sampoom.backend.api.part.event.service.PartEventBatchService;
+import com.sampoom.backend.common.exception.BadRequestException;
+import com.sampoom.backend.common.exception.NotFoundException;
+import com.sampoom.backend.common.outbox.dto.OutboxChunkResult;
+import com.sampoom.backend.common.outbox.dto.OutboxSnapshotJobResponseDTO;
+import com.sampoom.backend.common.outbox.entity.OutboxSnapshotJob;
+import com.sampoom.backend.common.outbox.entity.OutboxStatus;
+import com.sampoom.backend.common.outbox.entity.SnapshotJobStatus;
+import com.sampoom.backend.common.outbox.entity.SnapshotStage;
+import com.sampoom.backend.common.outbox.repository.OutboxRepository;
+import com.sampoom.backend.common.outbox.repository.OutboxSnapshotJobRepository;
+import com.sampoom.backend.common.response.ErrorStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 전체 카탈로그 스냅샷(재발행) 작업
+ * - 관리자 요청으로 시작하며, 별도 스레드에서 단계별로 청크를 발행
+ * - 청크 발행과 체크포인트를 한 트랜잭션으로 커밋하므로 재개 시 누락/중복 없이 다음 id부터 이어서 발행
+ * - READY 적체가 maxBacklog를 넘으면 줄어들 때까지 대기해 실시간 이벤트 발행이 밀리지 않도록 함
+ * - heartbeat가 staleSeconds 이상 끊긴 작업(실행하던 인스턴스가 죽은 작업)은 다른 인스턴스가 인수해 재개
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxSnapshotService {
+
+    private final OutboxSnapshotJobRepository snapshotJobRepository;
+    private final OutboxRepository outboxRepository;
+    private final PartEventBatchService partEventBatchService;
+    private final MaterialEventBatchService materialEventBatchService;
+    private final BomEventBatchService bomEventBatchService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${outbox.snapshot.chunk-size:500}")
+    private int chunkSize;
+
+    // READY 이벤트가 이 수를 넘으면 다음 청크 발행을 미룸
+    @Value("${outbox.snapshot.max-backlog:5000}")
+    private long maxBacklog;
+
+    // 적체가 풀리기를 기다리는 간격
+    @Value("${outbox.snapshot.throttle-ms:1000}")
+    private long throttleMillis;
+
+    // 청크 사이 휴식 시간
+    @Value("${outbox.snapshot.chunk-delay-ms:50}")
+    private long chunkDelayMillis;
+
+    // heartbeat가 이 시간 이상 갱신되지 않으면 실행하던 인스턴스가 죽은 것으로 판단
+    @Value("${outbox.snapshot.stale-seconds:120}")
+    private long staleSeconds;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "outbox-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 이 인스턴스에서 실행 중(또는 실행 대기 중)인 작업 id
+    private final Set<Long> localJobs = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 스냅샷 작업 시작 (동시에 하나만 실행)
+     * - 동시에 요청이 와도 running_slot 유니크 제약으로 하나만 저장됨
+     */
+    public OutboxSnapshotJobResponseDTO start() {
+        if (snapshotJobRepository.existsByStatus(SnapshotJobStatus.RUNNING)) {
+            throw new BadRequestException(ErrorStatus.SNAPSHOT_JOB_ALREADY_RUNNING);
+        }
+
+        OutboxSnapshotJob job;
+        try {
+            job = snapshotJobRepository.save(OutboxSnapshotJob.start(chunkSize, LocalDateTime.now()));
+        } catch (DataIntegrityViolationException e) {
+            throw new BadRequestException(ErrorStatus.SNAPSHOT_JOB_ALREADY_RUNNING);
+        }
+        log.info("[OutboxSnapshot] 작업 시작: jobId={}, chunkSize={}", job.getId(), chunkSize);
+
+        submit(job.getId());
+        return new OutboxSnapshotJobResponseDTO(job);
+    }
+
+    @Transactional(readOnly = true)
+    public OutboxSnapshotJobResponseDTO get(Long jobId) {
+        return new OutboxSnapshotJobResponseDTO(findJob(jobId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<OutboxSnapshotJobResponseDTO> list() {
+        return snapshotJobRepository.findTop20ByOrderByIdDesc().stream()
+                .map(OutboxSnapshotJobResponseDTO::new)
+                .toList();
+    }
+
+    /**
+     * 실행 중인 작업 중단 (진행 중인 청크가 끝난 뒤 멈춤)
+     */
+    @Transactional
+    public OutboxSnapshotJobResponseDTO cancel(Long jobId) {
+        OutboxSnapshotJob job = findJob(jobId);
+        if (job.isRunning()) {
+            job.cancel(LocalDateTime.now());
+            log.info("[OutboxSnapshot] 작업 중단 요청: jobId={}", jobId);
+        }
+        return new OutboxSnapshotJobResponseDTO(job);
+    }
+
+    /**
+     * 실패/중단된 작업을 마지막 체크포인트부터 재개
+     */
+    public OutboxSnapshotJobResponseDTO resume(Long jobId) {
+        OutboxSnapshotJob job;
+        try {
+            job = transactionTemplate.execute(status -> {
+                OutboxSnapshotJob found = findJob(jobId);
+                if (found.getStatus() != SnapshotJobStatus.FAILED && found.getStatus() != SnapshotJobStatus.CANCELLED) {
+                    throw new BadRequestException(ErrorStatus.SNAPSHOT_JOB_NOT_RESUMABLE);
+                }
+                if (snapshotJobRepository.existsByStatus(SnapshotJobStatus.RUNNING)) {
+                    throw new BadRequestException(ErrorStatus.SNAPSHOT_JOB_ALREADY_RUNNING);
+                }
+                found.resume(LocalDateTime.now());
+                return found;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 확인 직후 다른 요청이 먼저 시작/재개한 경우
+            throw new BadRequestException(ErrorStatus.SNAPSHOT_JOB_ALREADY_RUNNING);
+        }
+
+        log.info("[OutboxSnapshot] 작업 재개: jobId={}, stage={}, lastId={}", jobId, job.getStage(), job.getLastId());
+        submit(jobId);
+        return new OutboxSnapshotJobResponseDTO(job);
+    }
+
+    /**
+     * heartbeat가 끊긴 실행 중 작업을 인수해 재개 (서버 재시작/장애 복구)
+     */
+    @Scheduled(fixedDelayString = "${outbox.snapshot.recovery-interval-ms:60000}")
+    public void resumeStaleJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxSnapshotJob> staleJobs = snapshotJobRepository.findByStatusAndHeartbeatAtBefore(
+                SnapshotJobStatus.RUNNING, now.minusSeconds(staleSeconds));
+
+        for (OutboxSnapshotJob job : staleJobs) {
+            if (localJobs.contains(job.getId())) continue;
+
+            Integer taken = transactionTemplate.execute(status ->
+                    snapshotJobRepository.takeOver(job.getId(), SnapshotJobStatus.RUNNING, job.getHeartbeatAt(), now));
+            if (taken != null && taken == 1) {
+                log.warn("[OutboxSnapshot] 중단된 작업 인수: jobId={}, stage={}, lastId={}",
+                        job.getId(), job.getStage(), job.getLastId());
+                submit(job.getId());
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void submit(Long jobId) {
+        if (localJobs.add(jobId)) {
+            executor.execute(() -> run(jobId));
+        }
+    }
+
+    private void run(Long jobId) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (!waitForBacklog(jobId)) return;
+
+                Boolean running;
+                try {
+                    running = transactionTemplate.execute(status -> publishNextChunk(jobId));
+                } catch (ObjectOptimisticLockingFailureException e) {
+                    // 청크 처리 중 취소 요청이 먼저 커밋됨 → 청크는 롤백, 다음 반복에서 상태 확인
+                    continue;
+                }
+                if (!Boolean.TRUE.equals(running)) return;
+
+                Thread.sleep(chunkDelayMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("[OutboxSnapshot] 작업 실패: jobId={}, reason={}", jobId, e.getMessage(), e);
+            transactionTemplate.executeWithoutResult(status ->
+                    snapshotJobRepository.findById(jobId).ifPresent(job -> job.fail(e.getMessage(), LocalDateTime.now())));
+        } finally {
+            localJobs.remove(jobId);
+        }
+    }
+
+    /**
+     * 현재 단계의 다음 청크를 발행하고 같은 트랜잭션에서 체크포인트 기록
+     * @return 작업이 계속 실행 중이면 true
+     */
+    private boolean publishNextChunk(Long jobId) {
+        OutboxSnapshotJob job = snapshotJobRepository.findById(jobId).orElse(null);
+        if (job == null || !job.isRunning()) return false;
+
+        OutboxChunkResult result = publishChunk(job.getStage(), job.getLastId(), job.getChunkSize());
+
+        LocalDateTime now = LocalDateTime.now();
+        job.checkpoint(result.getLastId(), result.getCount(), now);
+
+        if (result.getCount() < job.getChunkSize()) {
+            log.info("[OutboxSnapshot] 단계 완료: jobId={}, stage={}, {}건", jobId, job.getStage(), job.getStageProcessed());
+            job.nextStage(now);
+            if (!job.isRunning()) {
+                log.info("✅ [OutboxSnapshot] 작업 완료: jobId={}, 총 {}건", jobId, job.getTotalProcessed());
+            }
+        } else {
+            log.info("[OutboxSnapshot] 진행: jobId={}, stage={}, {}건 (lastId={})",
+                    jobId, job.getStage(), job.getStageProcessed(), job.getLastId());
+        }
+
+        return job.isRunning();
+    }
+
+    private OutboxChunkResult publishChunk(SnapshotStage stage, Long lastId, int size) {
+        return switch (stage) {
+            case PART_CATEGORY -> partEventBatchService.publishPartCategoryChunk(lastId, size);
+            case PART_GROUP -> partEventBatchService.publishPartGroupChunk(lastId, size);
+            case PART -> partEventBatchService.publishPartChunk(lastId, size);
+            case MATERIAL_CATEGORY -> materialEventBatchService.publishMaterialCategoryChunk(lastId, size);
+            case MATERIAL -> materialEventBatchService.publishMaterialChunk(lastId, size);
+            case BOM -> bomEventBatchService.publishBomChunk(lastId, size);
+        };
+    }
+
+    /**
+     * READY 적체가 maxBacklog 이하가 될 때까지 대기
+     * @return 작업이 계속 실행 중이면 true
+     */
+    private boolean waitForBacklog(Long jobId) throws InterruptedException {
+        while (outboxRepository.countByStatus(OutboxStatus.READY) > maxBacklog) {
+            boolean running = snapshotJobRepository.findById(jobId).map(OutboxSnapshotJob::isRunning).orElse(false);
+            if (!running) return false;
+
+            transactionTemplate.executeWithoutResult(status ->
+                    snapshotJobRepository.touchHeartbeat(jobId, LocalDateTime.now()));
+            log.debug("[OutboxSnapshot] READY 적체로 대기: jobId={}", jobId);
+            Thread.sleep(throttleMillis);
+        }
+        return true;
+    }
+
+    private OutboxSnapshotJob findJob(Long jobId) {
+        return snapshotJobRepository.findById(jobId)
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.SNAPSHOT_JOB_NOT_FOUND));
+    }
+}
@@ -13,6 +13,8 @@ public enum ErrorStatus {
     BAD_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다.", 30000),
     CATEGORY_IN_USE(HttpStatus.BAD_REQUEST, "해당 카테고리를 사용하는 그룹이 존재하여 삭제할 수 없습니다.", 30001),
     DUPLICATE_BOM(HttpStatus.BAD_REQUEST, "이미 해당 부품의 BOM이 존재합니다. 수정으로 진행해주세요.", 30002),
+    SNAPSHOT_JOB_NOT_RESUMABLE(HttpStatus.BAD_REQUEST, "실패하거나 중단된 스냅샷 작업만 재개할 수 있습니다.", 30003),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 페이지 커서입니다.", 30004),
 
 
     // 401 UNAUTHORIZED
@@ -29,12 +31,14 @@ public enum ErrorStatus {
     MATERIAL_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 자재를 찾을 수 없습니다.", 30404),
     BOM_NOT_FOUND(HttpStatus.NOT_FOUND, "BOM을 찾을 수 없습니다.", 30405),
     WORK_CENTER_NOT_FOUND(HttpStatus.NOT_FOUND, "작업장을 찾을 수 없습니다.", 30406),
+    SNAPSHOT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "스냅샷 작업을 찾을 수 없습니다.", 30407),
 
     // 409 CONFLICT
     CONFLICT(HttpStatus.CONFLICT, "충돌이 발생했습니다.",30900),
     PART_CODE_DUPLICATED(HttpStatus.CONFLICT, "이미 존재하는 부품 코드입니다.", 30901),
 
     DATA_CONFLICT(HttpStatus.CONFLICT, "다른 사용자에 의해 데이터가 수정되었습니다.", 30902),
+    SNAPSHOT_JOB_ALREADY_RUNNING(HttpStatus.CONFLICT, "이미 실행 중인 스냅샷 작업이 있습니다.", 30903),
 
     // 400 BAD_REQUEST
     SHORT_PUBLIC_KEY(HttpStatus.BAD_REQUEST, "서명 공개키의 길이가 짧습니다. 적어도 2048비트 이상으로 설정하세요.", 12401),
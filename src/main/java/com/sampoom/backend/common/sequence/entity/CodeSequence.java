@@ -0,0 +1,26 @@
+package com.sampoom.backend.common.sequence.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 코드 채번 카운터 (키별 마지막으로 발급한 번호)
+ * - 예: PART:12 → 12번 그룹 부품 코드의 마지막 일련번호
+ */
+@Entity
+@Table(name = "code_sequence")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CodeSequence {
+
+    @Id
+    @Column(name = "sequence_key", length = 100)
+    private String sequenceKey;
+
+    @Column(name = "last_value", nullable = false)
+    private Long lastValue;
+}
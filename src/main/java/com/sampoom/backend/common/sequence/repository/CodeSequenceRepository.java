@@ -0,0 +1,25 @@
+package com.sampoom.backend.common.sequence.repository;
+
+import com.sampoom.backend.common.sequence.entity.CodeSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CodeSequenceRepository extends JpaRepository<CodeSequence, String> {
+
+    // 카운터를 count만큼 증가 (행 잠금으로 동시 발급이 직렬화됨), 키가 없으면 0 반환
+    // 호출한 트랜잭션에 참여하므로 영속성 컨텍스트를 비우지 않음 (clear하면 수정 중인 엔티티가 준영속이 되어 변경이 유실됨)
+    @Modifying
+    @Query("UPDATE CodeSequence s SET s.lastValue = s.lastValue + :count WHERE s.sequenceKey = :key")
+    int increment(@Param("key") String key, @Param("count") long count);
+
+    @Query("SELECT s.lastValue FROM CodeSequence s WHERE s.sequenceKey = :key")
+    Long findLastValue(@Param("key") String key);
+
+    // 카운터 행 생성 (INSERT만 수행 → 이미 있으면 중복 키 예외, 다른 요청이 올린 값을 덮어쓰지 않음)
+    // save()는 id가 지정된 엔티티를 merge하므로 이미 있는 행의 last_value를 초기값으로 되돌릴 수 있음
+    @Modifying
+    @Query(value = "INSERT INTO code_sequence (sequence_key, last_value) VALUES (:key, :lastValue)", nativeQuery = true)
+    int insert(@Param("key") String key, @Param("lastValue") long lastValue);
+}
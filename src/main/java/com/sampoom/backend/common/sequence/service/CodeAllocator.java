@@ -0,0 +1,80 @@
+package com.sampoom.backend.common.sequence.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 공통 코드 발급기 (Part / Process / WorkCenter / Material / BOM)
+ * - CodeSpec의 키별 카운터(code_sequence)에서 번호를 받아 형식에 맞춰 코드 생성
+ * - 기본(block-size=1): 호출한 트랜잭션 안에서 카운터를 올리므로 롤백되면 번호도 되돌아감 (빈 번호 없음)
+ *   같은 키의 동시 발급은 카운터 행 잠금으로 커밋까지 직렬화되어 충돌/재시도가 없음
+ * - block-size > 1: 번호를 블록 단위로 미리 받아(별도 트랜잭션) 메모리에서 나눠 줌
+ *   카운터 잠금이 블록당 한 번이라 대량 등록에 유리하지만, 롤백/재시작 시 남은 번호는 건너뜀
+ * - 카운터가 처음 만들어질 때만 기존 코드(existingCodes)에서 최대 일련번호를 읽음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CodeAllocator {
+
+    private final CodeSequenceService codeSequenceService;
+
+    // 키별 미리 받은 번호 블록 (block-size > 1 일 때만 사용)
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    @Value("${code.allocator.block-size:1}")
+    private int blockSize;
+
+    /**
+     * 다음 코드 1개
+     * @param existingCodes 접두어로 기존 코드를 조회하는 함수 (카운터 초기화 시 한 번만 호출)
+     */
+    public String next(CodeSpec spec, Function<String, List<String>> existingCodes) {
+        if (blockSize <= 1) {
+            return spec.format(codeSequenceService.next(spec.getKey(), () -> initialValue(spec, existingCodes)));
+        }
+
+        Block block = blocks.computeIfAbsent(spec.getKey(), key -> new Block());
+        synchronized (block) {
+            if (block.next > block.last) {
+                long first = codeSequenceService.reserveDetached(spec.getKey(), blockSize,
+                        () -> initialValue(spec, existingCodes));
+                block.next = first;
+                block.last = first + blockSize - 1;
+            }
+            return spec.format(block.next++);
+        }
+    }
+
+    /**
+     * 연속된 코드 count개를 한 번에 예약 (대량 등록용, 호출한 트랜잭션 안에서 카운터를 한 번만 올림)
+     */
+    public List<String> reserve(CodeSpec spec, int count, Function<String, List<String>> existingCodes) {
+        long first = codeSequenceService.reserve(spec.getKey(), count, () -> initialValue(spec, existingCodes));
+
+        List<String> codes = new ArrayList<>(count);
+        for (long seq = first; seq < first + count; seq++) {
+            codes.add(spec.format(seq));
+        }
+        return codes;
+    }
+
+    private static long initialValue(CodeSpec spec, Function<String, List<String>> existingCodes) {
+        long max = spec.maxSequenceOf(existingCodes.apply(spec.getPrefix()));
+        log.debug("코드 카운터 초기값: key={}, prefix={}, max={}", spec.getKey(), spec.getPrefix(), max);
+        return max;
+    }
+
+    private static class Block {
+        private long next = 1;
+        private long last = 0;
+    }
+}
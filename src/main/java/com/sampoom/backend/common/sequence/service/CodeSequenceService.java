@@ -0,0 +1,94 @@
+package com.sampoom.backend.common.sequence.service;
+
+import com.sampoom.backend.common.sequence.repository.CodeSequenceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 카운터 테이블 기반 코드 채번
+ * - 키별 카운터 행을 UPDATE 한 번으로 증가시키므로 기존 코드를 훑지 않고 O(1)로 발급
+ * - 행 잠금으로 동시 발급이 직렬화되어 같은 번호가 두 번 나가지 않음
+ * - next/reserve: 호출한 트랜잭션에 참여 → 롤백되면 카운터도 되돌아가 빈 번호가 생기지 않음
+ * - reserveDetached: 별도 트랜잭션(REQUIRES_NEW)에서 바로 커밋 → 잠금은 짧지만 쓰지 않은 번호는 건너뜀
+ * - 카운터가 없으면 기존 코드의 최대 번호(initialValue)로 한 번만 초기화
+ */
+@Slf4j
+@Service
+public class CodeSequenceService {
+
+    private final CodeSequenceRepository codeSequenceRepository;
+    private final TransactionTemplate requiredTemplate;
+    private final TransactionTemplate requiresNewTemplate;
+
+    public CodeSequenceService(CodeSequenceRepository codeSequenceRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.codeSequenceRepository = codeSequenceRepository;
+        this.requiredTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 다음 번호 1개 발급 (호출한 트랜잭션 안에서)
+     */
+    public long next(String key, LongSupplier initialValue) {
+        return reserve(key, 1, initialValue);
+    }
+
+    /**
+     * 연속된 번호 count개를 한 번에 예약하고 첫 번호를 반환 (호출한 트랜잭션 안에서)
+     * - 반환값 first 기준으로 first ~ first + count - 1 사용
+     */
+    public long reserve(String key, int count, LongSupplier initialValue) {
+        return allocate(requiredTemplate, key, count, initialValue);
+    }
+
+    /**
+     * reserve와 같지만 별도 트랜잭션에서 바로 커밋 (메모리 블록 미리 받기용)
+     */
+    public long reserveDetached(String key, int count, LongSupplier initialValue) {
+        return allocate(requiresNewTemplate, key, count, initialValue);
+    }
+
+    private long allocate(TransactionTemplate template, String key, int count, LongSupplier initialValue) {
+        if (count < 1) {
+            throw new IllegalArgumentException("count는 1 이상이어야 합니다: " + count);
+        }
+
+        Long first = increment(template, key, count);
+        if (first != null) {
+            return first;
+        }
+
+        // 카운터가 없으면 기존 코드의 최대 번호로 초기화 (다른 요청이 먼저 만들었으면 그대로 사용)
+        // 중복 키 예외가 호출한 트랜잭션을 망가뜨리지 않도록 초기화는 항상 별도 트랜잭션에서 수행
+        try {
+            requiresNewTemplate.executeWithoutResult(status ->
+                    codeSequenceRepository.insert(key, initialValue.getAsLong()));
+            log.info("코드 카운터 초기화: key={}", key);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("코드 카운터가 이미 초기화됨: key={}", key);
+        }
+
+        first = increment(template, key, count);
+        if (first == null) {
+            throw new IllegalStateException("코드 카운터 초기화 실패: " + key);
+        }
+        return first;
+    }
+
+    private Long increment(TransactionTemplate template, String key, int count) {
+        return template.execute(status -> {
+            if (codeSequenceRepository.increment(key, count) == 0) {
+                return null;
+            }
+            return codeSequenceRepository.findLastValue(key) - count + 1;
+        });
+    }
+}
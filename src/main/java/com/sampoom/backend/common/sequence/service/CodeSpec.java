@@ -0,0 +1,42 @@
+package com.sampoom.backend.common.sequence.service;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 코드 형식 1종 (카운터 키 + 접두어 + 일련번호 자릿수)
+ * - 예: CodeSpec.of("PROCESS", "PC-", 3) → PC-001, PC-002 ... PC-1000
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CodeSpec {
+
+    private final String key;       // code_sequence.sequence_key
+    private final String prefix;    // 일련번호 앞에 붙는 접두어
+    private final int digits;       // 일련번호 최소 자릿수 (넘으면 그대로 늘어남)
+
+    public static CodeSpec of(String key, String prefix, int digits) {
+        return new CodeSpec(key, prefix, digits);
+    }
+
+    public String format(long seq) {
+        return prefix + String.format("%0" + digits + "d", seq);
+    }
+
+    // 기존 코드 중 이 형식의 최대 일련번호 (형식이 다른 코드는 무시)
+    public long maxSequenceOf(Iterable<String> codes) {
+        long max = 0;
+        for (String code : codes) {
+            if (code == null || !code.startsWith(prefix)) {
+                continue;
+            }
+            try {
+                max = Math.max(max, Long.parseLong(code.substring(prefix.length())));
+            } catch (NumberFormatException ignored) {
+                // 잘못된 형식의 코드는 무시
+            }
+        }
+        return max;
+    }
+}
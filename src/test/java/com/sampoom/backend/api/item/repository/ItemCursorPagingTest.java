@@ -0,0 +1,140 @@
+package com.sampoom.backend.api.item.repository;
+
+import com.sampoom.backend.api.item.dto.ItemResponseDTO;
+import com.sampoom.backend.api.item.enums.ItemType;
+import com.sampoom.backend.api.material.entity.Material;
+import com.sampoom.backend.api.material.entity.MaterialCategory;
+import com.sampoom.backend.api.part.entity.Part;
+import com.sampoom.backend.api.part.entity.PartCategory;
+import com.sampoom.backend.api.part.entity.PartGroup;
+import com.sampoom.backend.common.config.SearchIndexInitializer;
+import com.sampoom.backend.common.dto.CursorResponseDTO;
+import com.sampoom.backend.common.dto.CursorToken;
+import com.sampoom.backend.common.exception.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * (code, type, id) 키셋 페이지 이동 (ItemService.scrollItems와 같은 조회)
+ * - 자재 코드는 부품 코드와 겹칠 수 있으므로 같은 코드가 페이지 경계에 걸쳐도 누락/중복이 없어야 함
+ */
+@DataJpaTest
+@Import({ItemJdbcRepository.class, SearchIndexInitializer.class})
+class ItemCursorPagingTest {
+
+    @Autowired
+    private ItemJdbcRepository itemJdbcRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private PartGroup group;
+    private MaterialCategory steel;
+
+    @BeforeEach
+    void setUp() {
+        PartCategory category = entityManager.persist(new PartCategory("EN", "엔진"));
+        group = entityManager.persist(new PartGroup("EN01", "실린더", category));
+        steel = entityManager.persist(MaterialCategory.builder().code("ST").name("철강").build());
+    }
+
+    @Test
+    void 부품과_자재가_같은_코드여도_코드_유형_id_순으로_한_번씩_읽는다() {
+        List<String> expected = new ArrayList<>();
+        expected.add("MATERIAL:" + saveMaterial("C-001"));
+        Long firstMaterial = saveMaterial("C-002");
+        Long secondMaterial = saveMaterial("C-002");
+        expected.add("MATERIAL:" + firstMaterial);
+        expected.add("MATERIAL:" + secondMaterial);
+        expected.add("PART:" + savePart("C-002"));
+        expected.add("PART:" + savePart("C-003"));
+        entityManager.flush();
+
+        for (int size = 1; size <= 3; size++) {
+            List<String> visited = new ArrayList<>();
+            String cursor = null;
+            int pages = 0;
+            do {
+                CursorResponseDTO<ItemResponseDTO> page = scroll(ItemType.ALL, cursor, size);
+                page.getContent().forEach(item -> visited.add(typeOf(item) + ":" + item.getId()));
+                cursor = page.getNextCursor();
+                assertThat(page.isHasNext()).isEqualTo(cursor != null);
+                pages++;
+            } while (cursor != null && pages < 10);
+
+            assertThat(visited).as("size=%d", size).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void 자재_커서_다음에는_같은_코드의_부품부터() {
+        saveMaterial("C-002");
+        Long material = saveMaterial("C-002");
+        Long part = savePart("C-002");
+        Long next = saveMaterial("C-003");
+        entityManager.flush();
+
+        CursorResponseDTO<ItemResponseDTO> page =
+                scroll(ItemType.ALL, CursorToken.encode("MATERIAL|C-002", material), 10);
+
+        assertThat(page.getContent()).extracting(ItemResponseDTO::getId).containsExactly(part, next);
+        assertThat(page.isHasNext()).isFalse();
+    }
+
+    @Test
+    void 유형을_지정하면_그_유형만_이어서_읽는다() {
+        saveMaterial("C-001");
+        Long first = savePart("C-002");
+        Long second = savePart("C-003");
+        entityManager.flush();
+
+        CursorResponseDTO<ItemResponseDTO> firstPage = scroll(ItemType.PART, null, 1);
+        CursorResponseDTO<ItemResponseDTO> secondPage = scroll(ItemType.PART, firstPage.getNextCursor(), 1);
+
+        assertThat(firstPage.getContent()).extracting(ItemResponseDTO::getId).containsExactly(first);
+        assertThat(secondPage.getContent()).extracting(ItemResponseDTO::getId).containsExactly(second);
+        assertThat(secondPage.isHasNext()).isFalse();
+    }
+
+    @Test
+    void 유형이_없는_커서는_거부한다() {
+        assertThatThrownBy(() -> scroll(ItemType.ALL, CursorToken.encode("C-002", 1L), 10))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private CursorResponseDTO<ItemResponseDTO> scroll(ItemType type, String cursor, int size) {
+        List<ItemResponseDTO> rows = itemJdbcRepository.scrollAll(
+                type, null, null, null, "", CursorToken.decode(cursor), size + 1);
+
+        return CursorResponseDTO.of(rows, size, ItemJdbcRepository::cursorKey, ItemResponseDTO::getId,
+                Function.identity(), null);
+    }
+
+    private static String typeOf(ItemResponseDTO item) {
+        return "원자재".equals(item.getType()) ? "MATERIAL" : "PART";
+    }
+
+    private Long savePart(String code) {
+        return entityManager.persist(new Part(code, "부품 " + code, group, "EA", 0, 1)).getId();
+    }
+
+    private Long saveMaterial(String code) {
+        return entityManager.persist(Material.builder()
+                .materialCode(code)
+                .name("자재 " + code)
+                .materialUnit("EA")
+                .materialCategory(steel)
+                .build()).getId();
+    }
+}
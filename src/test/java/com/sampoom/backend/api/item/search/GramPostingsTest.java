@@ -0,0 +1,79 @@
+package com.sampoom.backend.api.item.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GramPostingsTest {
+
+    @Test
+    void 키별로_추가한_순서대로_슬롯을_모은다() {
+        GramPostings postings = new GramPostings();
+        postings.add(gram('a', 'b'), 1);
+        postings.add(gram('b', 'a'), 2);
+        postings.add(gram('a', 'b'), 5);
+
+        assertThat(postings.get(gram('a', 'b')).toArray()).containsExactly(1, 5);
+        assertThat(postings.get(gram('b', 'a')).toArray()).containsExactly(2);
+        assertThat(postings.get(gram('a', 'c'))).isNull();
+    }
+
+    @Test
+    void 한글_bigram은_음수_키여도_구분된다() {
+        GramPostings postings = new GramPostings();
+        int engine = gram('엔', '진');
+        int reversed = gram('진', '엔');
+        postings.add(engine, 0);
+        postings.add(reversed, 1);
+
+        assertThat(engine).isNegative();
+        assertThat(postings.get(engine).toArray()).containsExactly(0);
+        assertThat(postings.get(reversed).toArray()).containsExactly(1);
+    }
+
+    @Test
+    void 키가_많아져_크기가_늘어나도_모든_목록이_유지된다() {
+        GramPostings postings = new GramPostings();
+        int keyCount = 20_000;
+        for (int key = 0; key < keyCount; key++) {
+            postings.add(key * 31, key);
+            postings.add(key * 31, key + keyCount);
+        }
+
+        for (int key = 0; key < keyCount; key++) {
+            assertThat(postings.get(key * 31).toArray()).containsExactly(key, key + keyCount);
+        }
+    }
+
+    @Test
+    void retainAll_정렬된_후보와의_교집합을_앞쪽에_남긴다() {
+        GramPostings postings = new GramPostings();
+        for (int slot : new int[]{1, 3, 4, 8, 10}) {
+            postings.add(7, slot);
+        }
+        int[] candidates = {0, 3, 4, 5, 10, 11};
+
+        int kept = postings.get(7).retainAll(candidates, candidates.length);
+
+        assertThat(Arrays.copyOf(candidates, kept)).containsExactly(3, 4, 10);
+    }
+
+    @Test
+    void retainAll_length_뒤의_후보는_보지_않는다() {
+        GramPostings postings = new GramPostings();
+        postings.add(7, 2);
+        postings.add(7, 9);
+        int[] candidates = {2, 5, 9};
+
+        int kept = postings.get(7).retainAll(candidates, 2);
+
+        assertThat(Arrays.copyOf(candidates, kept)).containsExactly(2);
+    }
+
+    // ItemSearchIndex와 같은 방식으로 글자 2개를 int 하나로 묶음
+    private static int gram(char first, char second) {
+        return (first << 16) | second;
+    }
+}
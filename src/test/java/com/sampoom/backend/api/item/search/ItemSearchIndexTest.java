@@ -0,0 +1,327 @@
+package com.sampoom.backend.api.item.search;
+
+import com.sampoom.backend.api.item.enums.ItemType;
+import com.sampoom.backend.api.material.entity.Material;
+import com.sampoom.backend.api.material.entity.MaterialCategory;
+import com.sampoom.backend.api.part.entity.Part;
+import com.sampoom.backend.api.part.entity.PartCategory;
+import com.sampoom.backend.api.part.entity.PartGroup;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ItemSearchIndexTest {
+
+    private static final PartCategory ENGINE = category(1L, "ENG", "엔진");
+    private static final PartGroup PISTON = group(10L, "G1", "피스톤", ENGINE);
+    private static final PartGroup CRANK = group(11L, "G2", "크랭크", ENGINE);
+    private static final MaterialCategory STEEL = MaterialCategory.builder().id(100L).code("ST").name("철강").build();
+
+    private final ItemSearchIndex index = new ItemSearchIndex();
+
+    @Test
+    void 키워드의_bigram이_모두_있어도_연속으로_나오지_않으면_제외() {
+        index.rebuild(List.of(
+                part(1L, 1L, "ENG-10-001", "abxbc", PISTON),
+                part(2L, 1L, "ENG-10-002", "xabcx", PISTON)));
+
+        assertThat(codes(search("abc"))).containsExactly("ENG-10-002");
+        assertThat(search("ba").getTotalElements()).isZero();
+    }
+
+    @Test
+    void 한글은_조합형으로_입력해도_완성형과_같이_찾는다() {
+        String decomposed = Normalizer.normalize("크랭크 샤프트", Normalizer.Form.NFD);
+        index.rebuild(List.of(
+                part(1L, 1L, "ENG-11-001", decomposed, CRANK),
+                part(2L, 1L, "ENG-10-001", "피스톤 링", PISTON)));
+
+        assertThat(codes(search("샤프트"))).containsExactly("ENG-11-001");
+        assertThat(codes(search(Normalizer.normalize("피스톤", Normalizer.Form.NFD)))).containsExactly("ENG-10-001");
+    }
+
+    @Test
+    void 한_글자_키워드는_전체_문서에서_찾는다() {
+        index.rebuild(List.of(
+                part(1L, 1L, "ENG-10-001", "피스톤 링", PISTON),
+                part(2L, 1L, "ENG-11-001", "크랭크", CRANK),
+                material(1L, 1L, "ST-001", "링 강판")));
+
+        assertThat(codes(search("링"))).containsExactly("ENG-10-001", "ST-001");
+        assertThat(codes(search("R"))).isEmpty();
+    }
+
+    @Test
+    void 자동완성은_코드_일치_코드_앞부분_이름_앞부분_부분_일치_순이고_동점은_코드순() {
+        index.rebuild(List.of(
+                material(1L, 1L, "ZZ-001", "부속 ring"),
+                material(2L, 1L, "YY-001", "ring 너트"),
+                material(3L, 1L, "RING-02", "와셔"),
+                material(4L, 1L, "RING", "링"),
+                material(5L, 1L, "RING-01", "와셔"),
+                material(6L, 1L, "AA-001", "o-ring")));
+
+        assertThat(codes(index.suggest(ItemType.ALL, null, null, null, "ring", 10)))
+                .containsExactly("RING", "RING-01", "RING-02", "YY-001", "AA-001", "ZZ-001");
+        assertThat(codes(index.suggest(ItemType.ALL, null, null, null, "ring", 2))).containsExactly("RING", "RING-01");
+    }
+
+    @Test
+    void 검색은_관련도와_상관없이_코드_유형_id_순() {
+        index.rebuild(List.of(
+                material(2L, 1L, "RING", "와셔"),
+                part(1L, 1L, "RING", "피스톤 ring", PISTON),
+                material(1L, 1L, "RING", "와셔"),
+                material(3L, 1L, "AA-001", "ring")));
+
+        List<ItemDocument> documents = search("ring").getDocuments();
+
+        assertThat(documents).extracting(ItemDocument::getCode).containsExactly("AA-001", "RING", "RING", "RING");
+        assertThat(documents).extracting(ItemDocument::getType)
+                .containsExactly(ItemType.MATERIAL, ItemType.MATERIAL, ItemType.MATERIAL, ItemType.PART);
+        assertThat(documents).extracting(ItemDocument::getId).containsExactly(3L, 1L, 2L, 1L);
+    }
+
+    @Test
+    void offset부터_limit건을_돌려주고_전체_건수는_그대로() {
+        List<ItemDocument> documents = new ArrayList<>();
+        for (long id = 1; id <= 7; id++) {
+            documents.add(material(id, 1L, "BOLT-%02d".formatted(id), "볼트"));
+        }
+        index.rebuild(documents);
+
+        ItemSearchHits page = index.search(ItemType.ALL, null, null, null, "볼트", 3, 3);
+        ItemSearchHits last = index.search(ItemType.ALL, null, null, null, "볼트", 6, 3);
+        ItemSearchHits beyond = index.search(ItemType.ALL, null, null, null, "볼트", 10, 3);
+
+        assertThat(codes(page)).containsExactly("BOLT-04", "BOLT-05", "BOLT-06");
+        assertThat(page.getTotalElements()).isEqualTo(7);
+        assertThat(codes(last)).containsExactly("BOLT-07");
+        assertThat(codes(beyond)).isEmpty();
+        assertThat(beyond.getTotalElements()).isEqualTo(7);
+    }
+
+    @Test
+    void 유형_카테고리_그룹_필터() {
+        index.rebuild(List.of(
+                part(1L, 1L, "ENG-10-001", "피스톤 볼트", PISTON),
+                part(2L, 1L, "ENG-11-001", "크랭크 볼트", CRANK),
+                material(1L, 1L, "ST-001", "볼트")));
+
+        assertThat(codes(index.search(ItemType.PART, null, null, null, "볼트", 0, 10)))
+                .containsExactly("ENG-10-001", "ENG-11-001");
+        assertThat(codes(index.search(ItemType.ALL, null, CRANK.getId(), STEEL.getId(), "볼트", 0, 10)))
+                .containsExactly("ENG-11-001", "ST-001");
+        assertThat(codes(index.search(ItemType.MATERIAL, null, null, 999L, "볼트", 0, 10))).isEmpty();
+    }
+
+    @Test
+    void 키워드가_없으면_필터만_적용하고_코드순() {
+        index.rebuild(List.of(
+                material(1L, 1L, "ST-002", "너트"),
+                part(1L, 1L, "ENG-10-001", "피스톤", PISTON),
+                material(2L, 1L, "ST-001", "볼트")));
+
+        assertThat(codes(search(" "))).containsExactly("ENG-10-001", "ST-001", "ST-002");
+    }
+
+    @Test
+    void 키워드가_없으면_코드순_목록에서_필터별_페이지와_전체_건수() {
+        List<ItemDocument> documents = new ArrayList<>();
+        for (long id = 1; id <= 6; id++) {
+            documents.add(part(id, 1L, "ENG-%02d".formatted(id), "부품", id % 2 == 0 ? PISTON : CRANK));
+            documents.add(material(id, 1L, "ENG-%02d".formatted(id), "자재"));
+        }
+        index.rebuild(documents);
+
+        ItemSearchHits all = index.search(ItemType.ALL, null, null, null, "", 3, 4);
+        assertThat(all.getDocuments()).extracting(ItemDocument::getType, ItemDocument::getCode).containsExactly(
+                tuple(ItemType.PART, "ENG-02"),
+                tuple(ItemType.MATERIAL, "ENG-03"),
+                tuple(ItemType.PART, "ENG-03"),
+                tuple(ItemType.MATERIAL, "ENG-04"));
+        assertThat(all.getTotalElements()).isEqualTo(12);
+
+        ItemSearchHits piston = index.search(ItemType.ALL, ENGINE.getId(), PISTON.getId(), 999L, "", 1, 10);
+        assertThat(codes(piston)).containsExactly("ENG-04", "ENG-06");
+        assertThat(piston.getTotalElements()).isEqualTo(3);
+
+        ItemSearchHits otherCategory = index.search(ItemType.PART, 2L, PISTON.getId(), null, "", 0, 10);
+        assertThat(otherCategory.getDocuments()).isEmpty();
+        assertThat(otherCategory.getTotalElements()).isZero();
+
+        ItemSearchHits materials = index.search(ItemType.MATERIAL, null, null, STEEL.getId(), "", 0, 2);
+        assertThat(codes(materials)).containsExactly("ENG-01", "ENG-02");
+        assertThat(materials.getTotalElements()).isEqualTo(6);
+    }
+
+    @Test
+    void 키워드가_없을_때_전체_건수는_추가_제거_그룹_이동을_따라간다() {
+        index.rebuild(List.of(
+                part(1L, 1L, "ENG-10-001", "피스톤", PISTON),
+                part(2L, 1L, "ENG-10-002", "피스톤 링", PISTON),
+                part(3L, 1L, "ENG-11-001", "크랭크", CRANK)));
+
+        index.remove(ItemType.PART, 2L, 2L);
+        index.upsert(part(4L, 1L, "ENG-11-002", "크랭크 핀", CRANK));
+        index.updatePartGroup(PISTON.getId(), PISTON.getName(), 2L, "변속기");
+
+        assertThat(index.search(ItemType.PART, ENGINE.getId(), null, null, "", 0, 10).getTotalElements()).isEqualTo(2);
+        assertThat(index.search(ItemType.PART, 2L, null, null, "", 0, 10).getTotalElements()).isEqualTo(1);
+        assertThat(index.search(ItemType.PART, 2L, PISTON.getId(), null, "", 0, 10).getTotalElements()).isEqualTo(1);
+        assertThat(index.search(ItemType.PART, ENGINE.getId(), PISTON.getId(), null, "", 0, 10).getTotalElements())
+                .isZero();
+        assertThat(codes(index.search(ItemType.PART, 2L, null, null, "", 0, 10))).containsExactly("ENG-10-001");
+    }
+
+    @Test
+    void 키워드_검색은_앞쪽_offset_limit건만_남겨도_정렬_결과가_같다() {
+        List<ItemDocument> documents = new ArrayList<>();
+        // 코드순과 반대 순서로 추가
+        for (long id = 50; id >= 1; id--) {
+            documents.add(material(id, 1L, "NUT-%03d".formatted(id), "육각 너트"));
+        }
+        index.rebuild(documents);
+
+        ItemSearchHits page = index.search(ItemType.ALL, null, null, null, "너트", 45, 10);
+
+        assertThat(codes(page)).containsExactly("NUT-046", "NUT-047", "NUT-048", "NUT-049", "NUT-050");
+        assertThat(page.getTotalElements()).isEqualTo(50);
+    }
+
+    @Test
+    void 교체된_문서는_이전_이름으로_찾지_않는다() {
+        index.rebuild(List.of(part(1L, 1L, "ENG-10-001", "피스톤 링", PISTON)));
+
+        index.upsert(part(1L, 2L, "ENG-10-001", "오일 링", PISTON));
+
+        assertThat(search("피스톤").getTotalElements()).isZero();
+        assertThat(codes(search("오일"))).containsExactly("ENG-10-001");
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 빈_슬롯이_쌓여_재구성돼도_최신_문서만_남는다() {
+        index.rebuild(List.of(
+                part(1L, 1L, "ENG-10-001", "피스톤", PISTON),
+                material(1L, 1L, "ST-001", "볼트")));
+
+        // 압축 기준(빈 슬롯 1024개 초과)을 여러 번 넘도록 같은 문서를 반복 교체
+        for (long version = 2; version <= 3000; version++) {
+            index.upsert(part(1L, version, "ENG-10-001", "피스톤 v" + version, PISTON));
+        }
+
+        assertThat(index.size()).isEqualTo(2);
+        ItemSearchHits hits = search("피스톤");
+        assertThat(hits.getTotalElements()).isEqualTo(1);
+        assertThat(hits.getDocuments().get(0).getName()).isEqualTo("피스톤 v3000");
+        assertThat(codes(search("볼트"))).containsExactly("ST-001");
+    }
+
+    @Test
+    void 이전_버전의_추가는_무시한다() {
+        index.rebuild(List.of(part(1L, 5L, "ENG-10-001", "오일 링", PISTON)));
+
+        index.upsert(part(1L, 4L, "ENG-10-001", "피스톤 링", PISTON));
+
+        assertThat(search("피스톤").getTotalElements()).isZero();
+        assertThat(codes(search("오일"))).containsExactly("ENG-10-001");
+    }
+
+    @Test
+    void 제거된_문서는_같은_버전_이하의_추가로_되살아나지_않는다() {
+        index.rebuild(List.of(material(1L, 3L, "ST-001", "볼트")));
+
+        index.remove(ItemType.MATERIAL, 1L, 3L);
+        index.upsert(material(1L, 3L, "ST-001", "볼트"));
+        index.upsert(material(1L, 2L, "ST-001", "볼트"));
+
+        assertThat(search("볼트").getTotalElements()).isZero();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void 이전_버전의_제거는_무시하고_새_버전으로는_다시_추가된다() {
+        index.rebuild(List.of(part(1L, 2L, "ENG-10-001", "피스톤", PISTON)));
+
+        index.remove(ItemType.PART, 1L, 1L);
+        assertThat(codes(search("피스톤"))).containsExactly("ENG-10-001");
+
+        index.remove(ItemType.PART, 1L, 3L);
+        index.upsert(part(1L, 4L, "ENG-10-001", "피스톤", PISTON));
+        assertThat(codes(search("피스톤"))).containsExactly("ENG-10-001");
+    }
+
+    @Test
+    void 부품과_자재는_id가_같아도_따로_관리된다() {
+        index.rebuild(List.of(
+                part(1L, 1L, "ENG-10-001", "볼트", PISTON),
+                material(1L, 1L, "ST-001", "볼트")));
+
+        index.remove(ItemType.MATERIAL, 1L, 1L);
+
+        assertThat(codes(search("볼트"))).containsExactly("ENG-10-001");
+    }
+
+    @Test
+    void 그룹과_카테고리_이름_변경이_부품에_반영된다() {
+        index.rebuild(List.of(
+                part(1L, 1L, "ENG-10-001", "피스톤 링", PISTON),
+                part(2L, 1L, "ENG-11-001", "크랭크", CRANK)));
+
+        index.updatePartGroup(PISTON.getId(), "피스톤 세트", ENGINE.getId(), ENGINE.getName());
+        index.updatePartCategory(ENGINE.getId(), "엔진 부품");
+
+        List<ItemDocument> documents = search("").getDocuments();
+        assertThat(documents).extracting(ItemDocument::getGroupName).containsExactly("피스톤 세트", "크랭크");
+        assertThat(documents).extracting(ItemDocument::getCategoryName).containsOnly("엔진 부품");
+    }
+
+    private ItemSearchHits search(String keyword) {
+        return index.search(ItemType.ALL, null, null, null, keyword, 0, 100);
+    }
+
+    private static List<String> codes(ItemSearchHits hits) {
+        return codes(hits.getDocuments());
+    }
+
+    private static List<String> codes(List<ItemDocument> documents) {
+        return documents.stream().map(ItemDocument::getCode).toList();
+    }
+
+    private static PartCategory category(Long id, String code, String name) {
+        PartCategory category = new PartCategory(code, name);
+        ReflectionTestUtils.setField(category, "id", id);
+        return category;
+    }
+
+    private static PartGroup group(Long id, String code, String name, PartCategory category) {
+        PartGroup group = new PartGroup(code, name, category);
+        ReflectionTestUtils.setField(group, "id", id);
+        return group;
+    }
+
+    private static ItemDocument part(Long id, Long version, String code, String name, PartGroup group) {
+        Part part = new Part(code, name, group, "EA", 10, 1);
+        ReflectionTestUtils.setField(part, "id", id);
+        ReflectionTestUtils.setField(part, "version", version);
+        return ItemDocument.ofPart(part);
+    }
+
+    private static ItemDocument material(Long id, Long version, String code, String name) {
+        return ItemDocument.ofMaterial(Material.builder()
+                .id(id)
+                .version(version)
+                .materialCode(code)
+                .name(name)
+                .materialUnit("EA")
+                .materialCategory(STEEL)
+                .build());
+    }
+}
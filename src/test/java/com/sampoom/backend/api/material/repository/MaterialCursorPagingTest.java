@@ -0,0 +1,94 @@
+package com.sampoom.backend.api.material.repository;
+
+import com.sampoom.backend.api.material.entity.Material;
+import com.sampoom.backend.api.material.entity.MaterialCategory;
+import com.sampoom.backend.common.dto.CursorResponseDTO;
+import com.sampoom.backend.common.dto.CursorToken;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * (materialCode, id) 키셋 페이지 이동 (MaterialService.scrollMaterials와 같은 조회)
+ * - 자재 코드는 카테고리 간 중복될 수 있으므로 같은 코드가 페이지 경계에 걸쳐도 누락/중복이 없어야 함
+ */
+@DataJpaTest
+class MaterialCursorPagingTest {
+
+    @Autowired
+    private MaterialRepository materialRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void 정렬_키가_같은_행이_페이지_경계에_걸쳐도_모두_한_번씩_읽는다() {
+        MaterialCategory steel = entityManager.persist(MaterialCategory.builder().code("ST").name("철강").build());
+        MaterialCategory resin = entityManager.persist(MaterialCategory.builder().code("RS").name("수지").build());
+
+        List<Long> expected = new ArrayList<>();
+        // 같은 코드 5개 + 앞뒤로 다른 코드 (페이지 크기 2이므로 같은 코드가 세 페이지에 걸침)
+        expected.add(save("M-001", steel));
+        for (int i = 0; i < 5; i++) {
+            expected.add(save("M-002", i % 2 == 0 ? steel : resin));
+        }
+        expected.add(save("M-003", resin));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> visited = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorResponseDTO<Long> page = scroll(cursor, 2);
+            visited.addAll(page.getContent());
+            cursor = page.getNextCursor();
+            assertThat(page.isHasNext()).isEqualTo(cursor != null);
+            pages++;
+        } while (cursor != null && pages < 10);
+
+        assertThat(visited).containsExactlyElementsOf(expected);
+        assertThat(pages).isEqualTo(4);
+    }
+
+    @Test
+    void 같은_코드에서는_커서_id보다_큰_행부터() {
+        MaterialCategory steel = entityManager.persist(MaterialCategory.builder().code("ST").name("철강").build());
+        Long first = save("M-002", steel);
+        Long second = save("M-002", steel);
+        Long third = save("M-002", steel);
+        Long next = save("M-003", steel);
+        entityManager.flush();
+
+        CursorResponseDTO<Long> page = scroll(CursorToken.encode("M-002", second), 10);
+
+        assertThat(page.getContent()).containsExactly(third, next).doesNotContain(first, second);
+        assertThat(page.isHasNext()).isFalse();
+    }
+
+    private CursorResponseDTO<Long> scroll(String cursor, int size) {
+        Specification<Material> all = (root, query, cb) -> null;
+        List<Material> rows = materialRepository.findBy(
+                all.and(CursorToken.after(CursorToken.decode(cursor), "materialCode")),
+                query -> query.sortBy(Sort.by("materialCode", "id")).limit(size + 1).all());
+
+        return CursorResponseDTO.of(rows, size, Material::getMaterialCode, Material::getId, Material::getId, null);
+    }
+
+    private Long save(String code, MaterialCategory category) {
+        return entityManager.persist(Material.builder()
+                .materialCode(code)
+                .name("자재 " + code)
+                .materialUnit("EA")
+                .materialCategory(category)
+                .build()).getId();
+    }
+}
@@ -0,0 +1,71 @@
+package com.sampoom.backend.common.dto;
+
+import com.sampoom.backend.common.exception.BadRequestException;
+import com.sampoom.backend.common.response.ErrorStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorTokenTest {
+
+    @Test
+    void encode한_커서를_decode하면_키와_id가_그대로() {
+        CursorToken token = CursorToken.decode(CursorToken.encode("ENG-01-007", 42L));
+
+        assertThat(token.getKey()).isEqualTo("ENG-01-007");
+        assertThat(token.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    void 키에_구분자나_한글이_있어도_그대로_복원() {
+        CursorToken token = CursorToken.decode(CursorToken.encode("A|B||피스톤 링|", 7L));
+
+        assertThat(token.getKey()).isEqualTo("A|B||피스톤 링|");
+        assertThat(token.getId()).isEqualTo(7L);
+    }
+
+    @Test
+    void 빈_키도_복원() {
+        CursorToken token = CursorToken.decode(CursorToken.encode("", 1L));
+
+        assertThat(token.getKey()).isEmpty();
+    }
+
+    @Test
+    void 커서는_URL에_그대로_쓸_수_있는_문자만_사용() {
+        String cursor = CursorToken.encode("??/++ 피스톤", Long.MAX_VALUE);
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void 커서가_없으면_첫_페이지() {
+        assertThat(CursorToken.decode(null)).isNull();
+        assertThat(CursorToken.decode(" ")).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"%%%", "not base64!"})
+    void Base64가_아니면_INVALID_CURSOR(String cursor) {
+        assertInvalid(cursor);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"v2|1|ENG-01-001", "v1|1", "v1", "v1|abc|ENG-01-001", "v1||ENG-01-001", "1|ENG-01-001"})
+    void 형식이_다르면_INVALID_CURSOR(String raw) {
+        assertInvalid(Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void assertInvalid(String cursor) {
+        assertThatThrownBy(() -> CursorToken.decode(cursor))
+                .isInstanceOf(BadRequestException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorStatus.INVALID_CURSOR.getCode());
+    }
+}
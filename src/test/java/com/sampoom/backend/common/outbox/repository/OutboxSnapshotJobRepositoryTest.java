@@ -0,0 +1,71 @@
+package com.sampoom.backend.common.outbox.repository;
+
+import com.sampoom.backend.common.outbox.entity.OutboxSnapshotJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 실행 중인 스냅샷 작업은 DB에서 하나만 허용 (running_slot 유니크 제약)
+ * - 저장마다 커밋되도록 테스트 트랜잭션을 쓰지 않음
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxSnapshotJobRepositoryTest {
+
+    @Autowired
+    private OutboxSnapshotJobRepository snapshotJobRepository;
+
+    @BeforeEach
+    void setUp() {
+        snapshotJobRepository.deleteAll();
+    }
+
+    @Test
+    void 실행_중인_작업이_있으면_새_작업을_저장할_수_없다() {
+        snapshotJobRepository.save(OutboxSnapshotJob.start(500, LocalDateTime.now()));
+
+        assertThatThrownBy(() -> snapshotJobRepository.save(OutboxSnapshotJob.start(500, LocalDateTime.now())))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void 끝난_작업은_여러_개여도_새_작업을_시작할_수_있다() {
+        OutboxSnapshotJob cancelled = OutboxSnapshotJob.start(500, LocalDateTime.now());
+        cancelled.cancel(LocalDateTime.now());
+        snapshotJobRepository.save(cancelled);
+
+        OutboxSnapshotJob failed = OutboxSnapshotJob.start(500, LocalDateTime.now());
+        failed.fail("broker down", LocalDateTime.now());
+        snapshotJobRepository.save(failed);
+
+        OutboxSnapshotJob running = snapshotJobRepository.save(OutboxSnapshotJob.start(500, LocalDateTime.now()));
+
+        assertThat(running.getRunningSlot()).isTrue();
+        assertThat(snapshotJobRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void 다른_작업이_실행_중이면_재개할_수_없다() {
+        OutboxSnapshotJob cancelled = OutboxSnapshotJob.start(500, LocalDateTime.now());
+        cancelled.cancel(LocalDateTime.now());
+        OutboxSnapshotJob saved = snapshotJobRepository.save(cancelled);
+
+        snapshotJobRepository.save(OutboxSnapshotJob.start(500, LocalDateTime.now()));
+
+        OutboxSnapshotJob reloaded = snapshotJobRepository.findById(saved.getId()).orElseThrow();
+        reloaded.resume(LocalDateTime.now());
+
+        assertThatThrownBy(() -> snapshotJobRepository.saveAndFlush(reloaded))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
@@ -0,0 +1,181 @@
+package com.sampoom.backend.common.outbox.service;
+
+import com.sampoom.backend.common.outbox.dto.OutboxClaimResult;
+import com.sampoom.backend.common.outbox.entity.Outbox;
+import com.sampoom.backend.common.outbox.entity.OutboxStatus;
+import com.sampoom.backend.common.outbox.repository.OutboxJdbcRepository;
+import com.sampoom.backend.common.outbox.repository.OutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Outbox 점유 시 aggregate별 발행 순서 보장
+ * - 발행 결과 반영까지 각 단계가 실제처럼 별도 트랜잭션에서 실행되도록 테스트 트랜잭션을 쓰지 않음
+ */
+@DataJpaTest
+@Import({OutboxService.class, OutboxJdbcRepository.class, OutboxRetryPolicy.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@TestPropertySource(properties = {
+        "outbox.retry.max-attempts=10",
+        "outbox.retry.initial-delay-ms=100",
+        "outbox.retry.multiplier=1.0",
+        "outbox.retry.max-delay-ms=100"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxClaimOrderTest {
+
+    private static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(5);
+    private static final int MAX_RETRY_COUNT = 10;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository.deleteAll();
+    }
+
+    @Test
+    void 실패가_섞여도_aggregate별_발행_순서가_유지된다() throws InterruptedException {
+        // 두 aggregate의 이벤트를 번갈아 저장: A1, B1, A2, B2, A3, B3
+        List<Outbox> saved = new ArrayList<>();
+        for (int seq = 1; seq <= 3; seq++) {
+            saved.add(save(1L, "A" + seq));
+            saved.add(save(2L, "B" + seq));
+        }
+
+        // A1은 두 번, B2는 한 번 실패한 뒤 성공
+        Map<String, Integer> remainingFailures = new HashMap<>(Map.of("A1", 2, "B2", 1));
+        Map<Long, List<String>> publishedByAggregate = new HashMap<>();
+
+        for (int pass = 0; pass < 200 && countPublished() < saved.size(); pass++) {
+            List<Outbox> claimed = outboxService.claimPublishableEvents(MAX_RETRY_COUNT, 10, CLAIM_TIMEOUT).getEvents();
+
+            // 릴레이와 같은 규칙: 한 aggregate에서 실패하면 같은 배치의 뒤 이벤트는 보내지 않고 점유만 해제
+            List<Long> published = new ArrayList<>();
+            List<Long> failed = new ArrayList<>();
+            List<Long> skipped = new ArrayList<>();
+            Set<Long> failedAggregates = new HashSet<>();
+
+            for (Outbox outbox : claimed) {
+                if (failedAggregates.contains(outbox.getAggregateId())) {
+                    skipped.add(outbox.getId());
+                } else if (remainingFailures.getOrDefault(outbox.getEventType(), 0) > 0) {
+                    remainingFailures.merge(outbox.getEventType(), -1, Integer::sum);
+                    failed.add(outbox.getId());
+                    failedAggregates.add(outbox.getAggregateId());
+                } else {
+                    published.add(outbox.getId());
+                    publishedByAggregate.computeIfAbsent(outbox.getAggregateId(), id -> new ArrayList<>())
+                            .add(outbox.getEventType());
+                }
+            }
+            outboxService.applyPublishResults(published, failed, skipped);
+
+            // 재시도 대기(100ms)가 지나도록 잠시 대기
+            Thread.sleep(30);
+        }
+
+        assertThat(countPublished()).isEqualTo(saved.size());
+        assertThat(publishedByAggregate.get(1L)).containsExactly("A1", "A2", "A3");
+        assertThat(publishedByAggregate.get(2L)).containsExactly("B1", "B2", "B3");
+    }
+
+    @Test
+    void 재시도_대기_중인_이벤트가_있으면_같은_aggregate의_뒤_이벤트를_가져가지_않는다() {
+        Outbox a1 = save(1L, "A1");
+        save(1L, "A2");
+        Outbox b1 = save(2L, "B1");
+
+        List<Outbox> first = outboxService.claimPublishableEvents(MAX_RETRY_COUNT, 1, CLAIM_TIMEOUT).getEvents();
+        assertThat(first).extracting(Outbox::getId).containsExactly(a1.getId());
+        outboxService.applyPublishResults(List.of(), List.of(a1.getId()), List.of());
+
+        List<Outbox> second = outboxService.claimPublishableEvents(MAX_RETRY_COUNT, 10, CLAIM_TIMEOUT).getEvents();
+
+        assertThat(second).extracting(Outbox::getId).containsExactly(b1.getId());
+    }
+
+    @Test
+    void 이전_이벤트를_다른_인스턴스가_점유_중이면_뒤_이벤트를_가져가지_않는다() {
+        Outbox a1 = save(1L, "A1");
+        save(1L, "A2");
+        Outbox b1 = save(2L, "B1");
+        Outbox b2 = save(2L, "B2");
+
+        // 인스턴스 1: A1만 점유하고 아직 발행 결과를 반영하지 않음
+        List<Outbox> instance1 = outboxService.claimPublishableEvents(MAX_RETRY_COUNT, 1, CLAIM_TIMEOUT).getEvents();
+        assertThat(instance1).extracting(Outbox::getId).containsExactly(a1.getId());
+
+        // 인스턴스 2: A2는 A1이 발행 중이므로 제외
+        List<Outbox> instance2 = outboxService.claimPublishableEvents(MAX_RETRY_COUNT, 10, CLAIM_TIMEOUT).getEvents();
+
+        assertThat(instance2).extracting(Outbox::getId).containsExactly(b1.getId(), b2.getId());
+    }
+
+    @Test
+    void 보류된_행이_있어도_후보가_가득_찼으면_full() {
+        // 재시도 횟수를 다 쓴 A0 뒤의 A1은 후보로 조회되지만 순서 보장을 위해 보류됨
+        outboxRepository.saveAndFlush(Outbox.builder()
+                .aggregateType("PART")
+                .aggregateId(1L)
+                .eventType("A0")
+                .payload("{}")
+                .version(1L)
+                .status(OutboxStatus.FAILED)
+                .retryCount(MAX_RETRY_COUNT)
+                .build());
+        save(1L, "A1");
+        save(2L, "B1");
+
+        OutboxClaimResult claim = outboxService.claimPublishableEvents(MAX_RETRY_COUNT, 2, CLAIM_TIMEOUT);
+
+        assertThat(claim.getEvents()).extracting(Outbox::getEventType).containsExactly("B1");
+        assertThat(claim.isFull()).isTrue();
+    }
+
+    @Test
+    void 후보가_batchSize보다_적으면_full이_아니다() {
+        save(1L, "A1");
+
+        OutboxClaimResult claim = outboxService.claimPublishableEvents(MAX_RETRY_COUNT, 10, CLAIM_TIMEOUT);
+
+        assertThat(claim.getEvents()).hasSize(1);
+        assertThat(claim.isFull()).isFalse();
+    }
+
+    private Outbox save(Long aggregateId, String eventType) {
+        return outboxRepository.saveAndFlush(Outbox.builder()
+                .aggregateType("PART")
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .payload("{}")
+                .version(1L)
+                .build());
+    }
+
+    private long countPublished() {
+        return outboxRepository.countByStatus(OutboxStatus.PUBLISHED);
+    }
+}
@@ -0,0 +1,177 @@
+package com.sampoom.backend.common.sequence.service;
+
+import com.sampoom.backend.api.part.entity.Part;
+import com.sampoom.backend.api.part.entity.PartCategory;
+import com.sampoom.backend.api.part.entity.PartGroup;
+import com.sampoom.backend.api.part.repository.PartRepository;
+import com.sampoom.backend.common.sequence.repository.CodeSequenceRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({CodeSequenceService.class, CodeAllocator.class})
+class CodeAllocatorTest {
+
+    @Autowired
+    private CodeAllocator codeAllocator;
+
+    @Autowired
+    private CodeSequenceService codeSequenceService;
+
+    @Autowired
+    private CodeSequenceRepository codeSequenceRepository;
+
+    @Autowired
+    private PartRepository partRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // 테스트마다 다른 카운터 키를 써서 REQUIRES_NEW로 커밋된 카운터가 서로 섞이지 않게 함
+    private static CodeSpec newSpec(String prefix) {
+        return CodeSpec.of("TEST:" + UUID.randomUUID(), prefix, 3);
+    }
+
+    @Test
+    void 카운터가_없으면_기존_코드의_최대_번호_다음부터_발급() {
+        CodeSpec spec = newSpec("PC-");
+
+        String first = codeAllocator.next(spec, prefix -> List.of("PC-003", "PC-010", "WC-999"));
+        String second = codeAllocator.next(spec, prefix -> List.of("PC-999"));
+
+        assertThat(first).isEqualTo("PC-011");
+        // 두 번째부터는 카운터를 쓰므로 기존 코드 조회 결과를 보지 않음
+        assertThat(second).isEqualTo("PC-012");
+    }
+
+    @Test
+    void 자릿수를_넘어가면_PC_999_다음은_PC_1000() {
+        CodeSpec spec = newSpec("PC-");
+
+        String next = codeAllocator.next(spec, prefix -> List.of("PC-998", "PC-999"));
+        String after = codeAllocator.next(spec, prefix -> List.of());
+
+        assertThat(next).isEqualTo("PC-1000");
+        assertThat(after).isEqualTo("PC-1001");
+    }
+
+    @Test
+    void reserve_연속된_코드를_한_번에_예약() {
+        CodeSpec spec = newSpec("BOM-");
+
+        List<String> codes = codeAllocator.reserve(spec, 3, prefix -> List.of("BOM-005"));
+
+        assertThat(codes).containsExactly("BOM-006", "BOM-007", "BOM-008");
+        assertThat(codeSequenceRepository.findLastValue(spec.getKey())).isEqualTo(8L);
+    }
+
+    @Test
+    void 블록_모드는_블록당_한_번만_카운터를_올린다() {
+        CodeAllocator blockAllocator = new CodeAllocator(codeSequenceService);
+        ReflectionTestUtils.setField(blockAllocator, "blockSize", 5);
+        CodeSpec spec = newSpec("WC-");
+
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            codes.add(blockAllocator.next(spec, prefix -> List.of()));
+        }
+        assertThat(codes).containsExactly("WC-001", "WC-002", "WC-003", "WC-004", "WC-005");
+        assertThat(codeSequenceRepository.findLastValue(spec.getKey())).isEqualTo(5L);
+
+        assertThat(blockAllocator.next(spec, prefix -> List.of())).isEqualTo("WC-006");
+        assertThat(codeSequenceRepository.findLastValue(spec.getKey())).isEqualTo(10L);
+    }
+
+    @Test
+    void 코드_발급_후에도_호출한_트랜잭션의_변경이_저장된다() {
+        PartCategory category = entityManager.persist(new PartCategory("ENG", "엔진"));
+        PartGroup oldGroup = entityManager.persist(new PartGroup("G1", "피스톤", category));
+        PartGroup newGroup = entityManager.persist(new PartGroup("G2", "크랭크", category));
+        Part saved = entityManager.persist(new Part("ENG-01-001", "피스톤 링", oldGroup, "EA", 10, 1));
+        entityManager.flush();
+        entityManager.clear();
+
+        // PartService.updatePart와 같은 순서: 그룹 변경 → 새 그룹 코드 발급 → 코드 변경
+        Part part = partRepository.findById(saved.getId()).orElseThrow();
+        PartGroup target = entityManager.find(PartGroup.class, newGroup.getId());
+        part.changeGroup(target);
+
+        CodeSpec spec = CodeSpec.of("PART:" + target.getId(), "ENG-" + target.getId() + "-", 3);
+        String newCode = codeAllocator.next(spec,
+                prefix -> partRepository.findCodesByGroupIdAndPrefix(target.getId(), prefix));
+
+        assertThat(entityManager.getEntityManager().contains(part)).isTrue();
+        part.changeCode(newCode);
+        partRepository.flush();
+        entityManager.clear();
+
+        Part reloaded = partRepository.findById(saved.getId()).orElseThrow();
+        assertThat(reloaded.getPartGroup().getId()).isEqualTo(target.getId());
+        assertThat(reloaded.getCode()).isEqualTo(newCode);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void 동시에_발급해도_코드가_중복되지_않는다() throws Exception {
+        CodeSpec spec = newSpec("PT-");
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // 카운터를 먼저 만들어 두고 같은 행에 대한 동시 증가만 검증
+        transactionTemplate.execute(status -> codeAllocator.next(spec, prefix -> List.of()));
+
+        int threads = 8;
+        int perThread = 25;
+        Set<String> codes = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                Callable<Void> task = () -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        // 등록 트랜잭션 하나에 코드 하나 (커밋까지 카운터 행 잠금 유지)
+                        String code = transactionTemplate.execute(status -> codeAllocator.next(spec, prefix -> List.of()));
+                        codes.add(code);
+                    }
+                    return null;
+                };
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(codes).hasSize(threads * perThread);
+        assertThat(codeSequenceRepository.findLastValue(spec.getKey())).isEqualTo(1L + threads * perThread);
+    }
+}
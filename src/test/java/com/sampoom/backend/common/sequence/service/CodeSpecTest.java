@@ -0,0 +1,42 @@
+package com.sampoom.backend.common.sequence.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CodeSpecTest {
+
+    private final CodeSpec spec = CodeSpec.of("PROCESS", "PC-", 3);
+
+    @Test
+    void format_자릿수만큼_0을_채운다() {
+        assertThat(spec.format(1)).isEqualTo("PC-001");
+        assertThat(spec.format(42)).isEqualTo("PC-042");
+    }
+
+    @Test
+    void format_자릿수를_넘으면_그대로_늘어난다() {
+        assertThat(spec.format(999)).isEqualTo("PC-999");
+        assertThat(spec.format(1000)).isEqualTo("PC-1000");
+    }
+
+    @Test
+    void maxSequenceOf_자릿수가_늘어난_코드도_숫자로_비교한다() {
+        assertThat(spec.maxSequenceOf(List.of("PC-999", "PC-1000", "PC-010"))).isEqualTo(1000);
+    }
+
+    @Test
+    void maxSequenceOf_형식이_다른_코드는_무시한다() {
+        List<String> codes = Arrays.asList("PC-005", "WC-900", "PC-ABC", null, "PC-");
+
+        assertThat(spec.maxSequenceOf(codes)).isEqualTo(5);
+    }
+
+    @Test
+    void maxSequenceOf_코드가_없으면_0() {
+        assertThat(spec.maxSequenceOf(List.of())).isZero();
+    }
+}